@@ -0,0 +1,52 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder;
+
+import io.github.swagger2markup.markup.builder.internal.asciidoc.AsciiDocConverterExtension;
+import io.github.swagger2markup.markup.builder.internal.asciidoc.CommonMarkAsciiDocConverter;
+
+/**
+ * The Markdown parsers shipped to convert Markdown to AsciiDoc.
+ */
+public enum MarkdownParser {
+    /**
+     * Pegdown parser. Parsing may take exponential time on some inputs, so it is interrupted after a timeout.
+     */
+    PEGDOWN {
+        @Override
+        public MarkdownToAsciiDocConverter converter(int timeoutMillis) {
+            return markdown -> AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markdown, timeoutMillis);
+        }
+    },
+    /**
+     * CommonMark parser, with GitHub flavored tables. Parsing time is linear in the size of the input, so no timeout is applied.
+     */
+    COMMONMARK {
+        @Override
+        public MarkdownToAsciiDocConverter converter(int timeoutMillis) {
+            return CommonMarkAsciiDocConverter.INSTANCE;
+        }
+    };
+
+    /**
+     * @param timeoutMillis the parsing timeout, for parsers which need one
+     * @return a converter using this parser
+     */
+    public abstract MarkdownToAsciiDocConverter converter(int timeoutMillis);
+}
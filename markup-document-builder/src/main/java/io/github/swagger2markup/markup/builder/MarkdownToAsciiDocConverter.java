@@ -0,0 +1,38 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder;
+
+/**
+ * Converts Markdown to AsciiDoc when Markdown is imported into an AsciiDoc document.
+ * <p>
+ * Implement this interface to plug another Markdown parser into the builders,
+ * see {@link MarkupDocBuilder#withMarkdownToAsciiDocConverter(MarkdownToAsciiDocConverter)}.
+ * Implementations are shared by builders rendering concurrently, so they must be thread-safe.
+ */
+@FunctionalInterface
+public interface MarkdownToAsciiDocConverter {
+
+    /**
+     * Converts Markdown to AsciiDoc.
+     *
+     * @param markdown the Markdown source
+     * @return the AsciiDoc content, without leading and trailing blank lines
+     */
+    String convert(String markdown);
+}
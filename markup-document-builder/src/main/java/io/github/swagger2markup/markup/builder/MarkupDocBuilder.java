@@ -409,6 +409,34 @@ public interface MarkupDocBuilder {
      */
     MarkupDocBuilder tableWithColumnSpecs(List<MarkupTableColumn> columnSpecs, List<List<String>> cells);
 
+    /**
+     * Begins a table with column specifiers, whose rows are then built one at a time with {@link #tableRow(List)}
+     * and which is ended with {@link #endTable()}.<br>
+     * Rows are written as they are built, so that large tables never have to be held in memory.
+     *
+     * @param columnSpecs list of column specifiers. Ignored if null.
+     * @return this builder
+     * @throws IllegalStateException if a table is already begun
+     */
+    MarkupDocBuilder beginTable(List<MarkupTableColumn> columnSpecs);
+
+    /**
+     * Builds a row of the table begun with {@link #beginTable(List)}.
+     *
+     * @param cells cell values
+     * @return this builder
+     * @throws IllegalStateException if no table is begun
+     */
+    MarkupDocBuilder tableRow(List<String> cells);
+
+    /**
+     * Ends the table begun with {@link #beginTable(List)}.
+     *
+     * @return this builder
+     * @throws IllegalStateException if no table is begun
+     */
+    MarkupDocBuilder endTable();
+
     /**
      * Builds a custom {@code anchor} for later reference.<br>
      * Specified {@code anchor} will be normalized anyway.<br>
@@ -553,6 +581,86 @@ public interface MarkupDocBuilder {
      */
     String getAnchorPrefix();
 
+    /**
+     * Configure this builder to convert Markdown imported into AsciiDoc with {@code converter}.
+     * By default, Markdown is converted with {@link MarkdownParser#PEGDOWN}.
+     *
+     * @param converter Markdown to AsciiDoc converter
+     * @return this builder
+     */
+    MarkupDocBuilder withMarkdownToAsciiDocConverter(MarkdownToAsciiDocConverter converter);
+
+    /**
+     * Writes bold text to {@code out}, exactly as {@link #boldText(String)} would add it to this builder.
+     * This builder is not modified.
+     *
+     * @param out  the buffer to write to
+     * @param text the text, must not be blank
+     * @return {@code out}
+     */
+    StringBuilder inlineBoldText(StringBuilder out, String text);
+
+    /**
+     * Writes italic text to {@code out}, exactly as {@link #italicText(String)} would add it to this builder.
+     * This builder is not modified.
+     *
+     * @param out  the buffer to write to
+     * @param text the text, must not be blank
+     * @return {@code out}
+     */
+    StringBuilder inlineItalicText(StringBuilder out, String text);
+
+    /**
+     * Writes literal text to {@code out}, exactly as {@link #literalText(String)} would add it to this builder.
+     * This builder is not modified.
+     *
+     * @param out  the buffer to write to
+     * @param text the text, must not be blank
+     * @return {@code out}
+     */
+    StringBuilder inlineLiteralText(StringBuilder out, String text);
+
+    /**
+     * Writes a cross-reference to {@code out}, exactly as {@link #crossReference(String, String, String)} would add it to this builder.
+     * This builder is not modified.
+     *
+     * @param out      the buffer to write to
+     * @param document document to point to, or null
+     * @param anchor   anchor to point to, normalized with the anchor prefix of this builder
+     * @param text     text to display, or null
+     * @return {@code out}
+     */
+    StringBuilder inlineCrossReference(StringBuilder out, String document, String anchor, String text);
+
+    /**
+     * Appends the content of {@code fragment}, usually a builder created with {@code copy(false)}.<br>
+     * Equivalent to {@code text(fragment.toString())}, without building the content of the fragment as a String.
+     *
+     * @param fragment the fragment to append
+     * @return this builder
+     */
+    MarkupDocBuilder appendFragment(MarkupDocBuilder fragment);
+
+    /**
+     * Returns true if the document is empty or contains only whitespace.
+     *
+     * @return true if the document is empty or blank
+     * @throws IllegalStateException if the document is written to an output
+     */
+    boolean isEmptyDocument();
+
+    /**
+     * Configure this builder to write the document to {@code output} instead of buffering it in memory.
+     * The content already built is written first.<br>
+     * Afterwards, {@code toString}, {@code copy(true)} and the {@code writeToFile} methods are no longer supported,
+     * and the caller is responsible for flushing and closing {@code output}.
+     *
+     * @param output the output of the document
+     * @return this builder
+     * @throws java.io.UncheckedIOException if the output can not be written
+     */
+    MarkupDocBuilder withOutput(Appendable output);
+
     /**
      * Builds a new instance of this builder with a state copy.
      *
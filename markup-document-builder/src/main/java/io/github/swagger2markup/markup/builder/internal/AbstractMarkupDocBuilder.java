@@ -26,24 +26,23 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
-import java.text.Normalizer;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
 import io.github.swagger2markup.markup.builder.MarkupBlockStyle;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.markup.builder.MarkupTableColumn;
 import io.github.swagger2markup.markup.builder.internal.asciidoc.AsciiDocConverterExtension;
 
-import static org.apache.commons.lang3.StringUtils.defaultString;
-
 /**
  * @author Robert Winkler
  */
@@ -58,16 +57,31 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
     protected static final Pattern ANCHOR_IGNORABLE_PATTERN = Pattern.compile("[\\s@#&(){}\\[\\]!$*%+=/:.;,?\\\\<>|]+");
     protected static final String ANCHOR_SEPARATION_CHARACTERS = "_-";
     protected static final int MAX_TITLE_LEVEL = 5;
-    protected static final String NEW_LINES = "\\r\\n|\\r|\\n";
     protected static final String WHITESPACE = " ";
     protected static final int ASCIIDOC_PEGDOWN_DEFUALT_MILLIS = 2000;
 
-    protected StringBuilder documentBuilder = new StringBuilder();
+    /**
+     * Builders are copied for every fragment, so their loggers are looked up once per builder class.
+     */
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<Logger>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
+    protected DocumentBuffer documentBuilder = new DocumentBuffer();
     protected String newLine;
     protected int asciidocPegdownTimeoutMillis;
-    protected Logger logger = LoggerFactory.getLogger(getClass());
+    protected Logger logger = LOGGERS.get(getClass());
 
     protected String anchorPrefix = null;
+    protected MarkdownToAsciiDocConverter markdownToAsciiDocConverter = null;
+
+    /**
+     * Column specifiers of the table begun with {@link #beginTable(List)}, or null if no table is begun.
+     */
+    private List<MarkupTableColumn> tableColumnSpecs = null;
 
     public AbstractMarkupDocBuilder() {
         this(System.getProperty("line.separator"), ASCIIDOC_PEGDOWN_DEFUALT_MILLIS);
@@ -95,6 +109,19 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         return this.anchorPrefix;
     }
 
+    @Override
+    public MarkupDocBuilder withMarkdownToAsciiDocConverter(MarkdownToAsciiDocConverter converter) {
+        Validate.notNull(converter, "converter must not be null");
+        this.markdownToAsciiDocConverter = converter;
+        return this;
+    }
+
+    @Override
+    public MarkupDocBuilder withOutput(Appendable output) {
+        documentBuilder.streamTo(output);
+        return this;
+    }
+
     protected void documentTitle(Markup markup, String title) {
         Validate.notBlank(title, "title must not be blank");
         documentBuilder.append(markup).append(replaceNewLinesWithWhiteSpace(title)).append(newLine).append(newLine);
@@ -200,7 +227,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
     @Override
     public MarkupDocBuilder textLine(String text, boolean forceLineBreak) {
         Validate.notNull(text, "text must not be null");
-        text(replaceNewLines(text));
+        text(text);
         newLine(forceLineBreak);
         return this;
     }
@@ -218,6 +245,22 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         return this;
     }
 
+    @Override
+    public MarkupDocBuilder appendFragment(MarkupDocBuilder fragment) {
+        Validate.notNull(fragment, "fragment must not be null");
+        if (fragment instanceof AbstractMarkupDocBuilder) {
+            documentBuilder.appendFragment(((AbstractMarkupDocBuilder) fragment).documentBuilder, newLine);
+        } else {
+            text(fragment.toString());
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isEmptyDocument() {
+        return documentBuilder.isEmptyDocument();
+    }
+
     @Override
     public MarkupDocBuilder paragraph(String text) {
         return paragraph(text, false);
@@ -285,7 +328,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
     @Override
     public MarkupDocBuilder literalTextLine(String text, boolean forceLineBreak) {
         Validate.notBlank(text, "text must not be blank");
-        literalText(replaceNewLines(text));
+        literalText(text);
         newLine(forceLineBreak);
         return this;
     }
@@ -302,7 +345,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
     @Override
     public MarkupDocBuilder boldTextLine(String text, boolean forceLineBreak) {
         Validate.notBlank(text, "text must not be blank");
-        boldText(replaceNewLines(text));
+        boldText(text);
         newLine(forceLineBreak);
         return this;
     }
@@ -348,31 +391,13 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         return anchor(anchor, null);
     }
 
-    /*
-     * Generic normalization algorithm for all markups (less common denominator character set).
-     * Key points :
-     * - Anchor is normalized (Normalized.Form.NFD)
-     * - Punctuations (excluding [-_]) and spaces are replaced with escape character (depends on markup : Markup.E)
-     * - Beginning, ending separation characters [-_] are ignored, repeating separation characters are simplified (keep first one)
-     * - Anchor is trimmed and lower cased
-     * - If the anchor still contains forbidden characters (non-ASCII, ...), replace the whole anchor with an hash (MD5).
-     * - Add the anchor prefix if configured
+    /**
+     * Normalizes an anchor and adds the configured anchor prefix.
+     *
+     * @see InlineMarkup#normalizeAnchor(String, Markup, String)
      */
     protected String normalizeAnchor(Markup spaceEscape, String anchor) {
-        String normalizedAnchor = defaultString(anchorPrefix) + anchor.trim();
-        normalizedAnchor = Normalizer.normalize(normalizedAnchor, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-        normalizedAnchor = ANCHOR_IGNORABLE_PATTERN.matcher(normalizedAnchor).replaceAll(spaceEscape.toString());
-        normalizedAnchor = normalizedAnchor.replaceAll(String.format("([%1$s])([%1$s]+)", ANCHOR_SEPARATION_CHARACTERS), "$1");
-        normalizedAnchor = StringUtils.strip(normalizedAnchor, ANCHOR_SEPARATION_CHARACTERS);
-        normalizedAnchor = normalizedAnchor.trim().toLowerCase();
-
-        String validAnchor = ANCHOR_UNIGNORABLE_PATTERN.matcher(normalizedAnchor).replaceAll("");
-        if (validAnchor.length() != normalizedAnchor.length())
-            normalizedAnchor = DigestUtils.md5Hex(normalizedAnchor);
-        else
-            normalizedAnchor = validAnchor;
-
-        return normalizedAnchor;
+        return InlineMarkup.normalizeAnchor(anchorPrefix, spaceEscape, anchor);
     }
 
 
@@ -420,7 +445,9 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
             return markupText;
         else {
             if (markupLanguage == MarkupLanguage.MARKDOWN && getMarkupLanguage() == MarkupLanguage.ASCIIDOC) {
-                return AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markupText, asciidocPegdownTimeoutMillis) + newLine;
+                if (markdownToAsciiDocConverter == null)
+                    return AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markupText, asciidocPegdownTimeoutMillis) + newLine;
+                return markdownToAsciiDocConverter.convert(markupText) + newLine;
             } else {
                 return markupText;
             }
@@ -503,6 +530,75 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
         return tableWithColumnSpecs(null, cells);
     }
 
+    @Override
+    public MarkupDocBuilder tableWithColumnSpecs(List<MarkupTableColumn> columnSpecs, List<List<String>> cells) {
+        Validate.notEmpty(cells, "cells must not be null");
+        beginTable(columnSpecs);
+        for (List<String> row : cells) {
+            tableRow(row);
+        }
+        return endTable();
+    }
+
+    @Override
+    public MarkupDocBuilder beginTable(List<MarkupTableColumn> columnSpecs) {
+        Validate.validState(tableColumnSpecs == null, "a table is already begun");
+        tableColumnSpecs = columnSpecs != null ? columnSpecs : Collections.emptyList();
+        try {
+            writeTableHeader(tableColumnSpecs);
+        } catch (RuntimeException e) {
+            tableColumnSpecs = null;
+            throw e;
+        }
+        return this;
+    }
+
+    @Override
+    public MarkupDocBuilder tableRow(List<String> cells) {
+        Validate.validState(tableColumnSpecs != null, "no table is begun");
+        Validate.notNull(cells, "cells must not be null");
+        try {
+            writeTableRow(tableColumnSpecs, cells);
+        } catch (RuntimeException e) {
+            tableColumnSpecs = null;
+            throw e;
+        }
+        return this;
+    }
+
+    @Override
+    public MarkupDocBuilder endTable() {
+        Validate.validState(tableColumnSpecs != null, "no table is begun");
+        try {
+            writeTableFooter(tableColumnSpecs);
+        } finally {
+            tableColumnSpecs = null;
+        }
+        return this;
+    }
+
+    /**
+     * Writes the beginning of a table, and its header row if any.
+     *
+     * @param columnSpecs column specifiers, empty if none
+     */
+    protected abstract void writeTableHeader(List<MarkupTableColumn> columnSpecs);
+
+    /**
+     * Writes a table row.
+     *
+     * @param columnSpecs column specifiers, empty if none
+     * @param cells       cell values
+     */
+    protected abstract void writeTableRow(List<MarkupTableColumn> columnSpecs, List<String> cells);
+
+    /**
+     * Writes the end of a table.
+     *
+     * @param columnSpecs column specifiers, empty if none
+     */
+    protected abstract void writeTableFooter(List<MarkupTableColumn> columnSpecs);
+
     @Override
     public String toString() {
         return documentBuilder.toString();
@@ -540,7 +636,7 @@ public abstract class AbstractMarkupDocBuilder implements MarkupDocBuilder {
     }
 
     public String replaceNewLines(String content, String replacement) {
-        return content.replaceAll(NEW_LINES, Matcher.quoteReplacement(replacement));
+        return InlineMarkup.replaceNewLines(content, replacement);
     }
 
     public String replaceNewLines(String content) {
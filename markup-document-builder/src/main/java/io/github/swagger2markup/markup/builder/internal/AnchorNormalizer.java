@@ -0,0 +1,204 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import static io.github.swagger2markup.markup.builder.internal.AbstractMarkupDocBuilder.ANCHOR_IGNORABLE_PATTERN;
+import static io.github.swagger2markup.markup.builder.internal.AbstractMarkupDocBuilder.ANCHOR_SEPARATION_CHARACTERS;
+import static io.github.swagger2markup.markup.builder.internal.AbstractMarkupDocBuilder.ANCHOR_UNIGNORABLE_PATTERN;
+import static org.apache.commons.lang3.StringUtils.defaultString;
+
+/**
+ * Anchor normalization with a bounded cache, as the same anchors are referenced over and over.
+ * <p>
+ * Anchors made only of ASCII letters, digits, separation characters and ignorable characters are normalized in
+ * a single pass. Any other anchor goes through the generic normalization.
+ */
+final class AnchorNormalizer {
+
+    /**
+     * The cache is cleared when it reaches this size, which bounds the memory used by long-lived processes.
+     */
+    static final int MAX_CACHE_SIZE = 16384;
+
+    private static final Pattern COMBINING_DIACRITICAL_MARKS_PATTERN = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+    private static final Pattern REPEATED_SEPARATION_CHARACTERS_PATTERN = Pattern.compile(String.format("([%1$s])([%1$s]+)", ANCHOR_SEPARATION_CHARACTERS));
+
+    private static final ConcurrentMap<Key, String> CACHE = new ConcurrentHashMap<>();
+
+    private AnchorNormalizer() {
+    }
+
+    static String normalize(String anchorPrefix, Markup spaceEscape, String anchor) {
+        // Lower casing depends on the default locale
+        Key key = new Key(spaceEscape, anchorPrefix, anchor, Locale.getDefault());
+        String normalizedAnchor = CACHE.get(key);
+        if (normalizedAnchor == null) {
+            normalizedAnchor = normalizeUncached(anchorPrefix, spaceEscape, anchor);
+            if (CACHE.size() >= MAX_CACHE_SIZE)
+                CACHE.clear();
+            CACHE.putIfAbsent(key, normalizedAnchor);
+        }
+        return normalizedAnchor;
+    }
+
+    static int cacheSize() {
+        return CACHE.size();
+    }
+
+    static String normalizeUncached(String anchorPrefix, Markup spaceEscape, String anchor) {
+        String anchorWithPrefix = defaultString(anchorPrefix) + anchor.trim();
+        String normalizedAnchor = normalizeAscii(spaceEscape, anchorWithPrefix);
+        if (normalizedAnchor == null)
+            normalizedAnchor = normalizeGeneric(spaceEscape, anchorWithPrefix);
+        return normalizedAnchor;
+    }
+
+    /**
+     * Single pass normalization of anchors made only of ASCII letters, digits, separation characters and ignorable characters.
+     * Runs of ignorable and separation characters are replaced with their first character, ignorable characters being replaced
+     * with {@code spaceEscape}, and leading and trailing runs are removed.
+     *
+     * @return the normalized anchor, or null if the anchor requires the generic normalization
+     */
+    private static String normalizeAscii(Markup spaceEscape, String anchor) {
+        String escape = spaceEscape.toString();
+        if (escape.length() != 1 || !isSeparationCharacter(escape.charAt(0)))
+            return null;
+
+        StringBuilder normalizedAnchor = new StringBuilder(anchor.length());
+        char separator = 0;
+        for (int i = 0; i < anchor.length(); i++) {
+            char c = anchor.charAt(i);
+            if (isAsciiLetterOrDigit(c)) {
+                if (separator != 0 && normalizedAnchor.length() > 0)
+                    normalizedAnchor.append(separator);
+                separator = 0;
+                normalizedAnchor.append(c);
+            } else if (isSeparationCharacter(c)) {
+                if (separator == 0)
+                    separator = c;
+            } else if (isIgnorable(c)) {
+                if (separator == 0)
+                    separator = escape.charAt(0);
+            } else {
+                return null;
+            }
+        }
+
+        // Same locale sensitive lower casing as the generic normalization, which may produce non-ASCII characters
+        String lowerCaseAnchor = normalizedAnchor.toString().toLowerCase();
+        for (int i = 0; i < lowerCaseAnchor.length(); i++) {
+            char c = lowerCaseAnchor.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && !isSeparationCharacter(c))
+                return null;
+        }
+        return lowerCaseAnchor;
+    }
+
+    /*
+     * Generic normalization algorithm for all markups (less common denominator character set).
+     * Key points :
+     * - Anchor is normalized (Normalized.Form.NFD)
+     * - Punctuations (excluding [-_]) and spaces are replaced with escape character (depends on markup : Markup.E)
+     * - Beginning, ending separation characters [-_] are ignored, repeating separation characters are simplified (keep first one)
+     * - Anchor is trimmed and lower cased
+     * - If the anchor still contains forbidden characters (non-ASCII, ...), replace the whole anchor with an hash (MD5).
+     */
+    private static String normalizeGeneric(Markup spaceEscape, String anchor) {
+        String normalizedAnchor = Normalizer.normalize(anchor, Normalizer.Form.NFD);
+        normalizedAnchor = COMBINING_DIACRITICAL_MARKS_PATTERN.matcher(normalizedAnchor).replaceAll("");
+        normalizedAnchor = ANCHOR_IGNORABLE_PATTERN.matcher(normalizedAnchor).replaceAll(spaceEscape.toString());
+        normalizedAnchor = REPEATED_SEPARATION_CHARACTERS_PATTERN.matcher(normalizedAnchor).replaceAll("$1");
+        normalizedAnchor = StringUtils.strip(normalizedAnchor, ANCHOR_SEPARATION_CHARACTERS);
+        normalizedAnchor = normalizedAnchor.trim().toLowerCase();
+
+        String validAnchor = ANCHOR_UNIGNORABLE_PATTERN.matcher(normalizedAnchor).replaceAll("");
+        if (validAnchor.length() != normalizedAnchor.length())
+            normalizedAnchor = DigestUtils.md5Hex(normalizedAnchor);
+        else
+            normalizedAnchor = validAnchor;
+
+        return normalizedAnchor;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isSeparationCharacter(char c) {
+        return c == '_' || c == '-';
+    }
+
+    /**
+     * @return true if {@code c} is matched by {@link AbstractMarkupDocBuilder#ANCHOR_IGNORABLE_PATTERN}
+     */
+    private static boolean isIgnorable(char c) {
+        switch (c) {
+            case ' ': case '\t': case '\n': case '\u000B': case '\f': case '\r':
+            case '@': case '#': case '&': case '(': case ')': case '{': case '}': case '[': case ']':
+            case '!': case '$': case '*': case '%': case '+': case '=': case '/': case ':': case '.':
+            case ';': case ',': case '?': case '\\': case '<': case '>': case '|':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static final class Key {
+        private final Markup spaceEscape;
+        private final String anchorPrefix;
+        private final String anchor;
+        private final Locale locale;
+
+        Key(Markup spaceEscape, String anchorPrefix, String anchor, Locale locale) {
+            this.spaceEscape = spaceEscape;
+            this.anchorPrefix = anchorPrefix;
+            this.anchor = anchor;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return spaceEscape == other.spaceEscape && Objects.equals(anchorPrefix, other.anchorPrefix) && anchor.equals(other.anchor)
+                    && locale.equals(other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(spaceEscape) + Objects.hashCode(anchorPrefix)) + anchor.hashCode();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The content of a markup document.
+ * The content is buffered in memory until the document is streamed to an output, and written through to that output afterwards.
+ */
+public final class DocumentBuffer {
+
+    private StringBuilder buffer;
+    private Appendable output;
+
+    public DocumentBuffer() {
+        this.buffer = new StringBuilder();
+    }
+
+    private DocumentBuffer(CharSequence content) {
+        this.buffer = new StringBuilder(content);
+    }
+
+    public DocumentBuffer append(String text) {
+        if (output == null) {
+            buffer.append(text);
+        } else {
+            write(text);
+        }
+        return this;
+    }
+
+    public DocumentBuffer append(CharSequence text) {
+        if (output == null) {
+            buffer.append(text);
+        } else {
+            write(text);
+        }
+        return this;
+    }
+
+    public DocumentBuffer append(Object object) {
+        return append(String.valueOf(object));
+    }
+
+    public DocumentBuffer append(char c) {
+        if (output == null) {
+            buffer.append(c);
+        } else {
+            try {
+                output.append(c);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write markup document", e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends the buffered content of {@code fragment}, replacing its newlines with {@code newLine},
+     * without copying the fragment into an intermediate String.
+     *
+     * @param fragment the fragment to append
+     * @param newLine  the replacement of {@code \r\n}, {@code \r} and {@code \n}
+     * @return this buffer
+     * @throws IllegalStateException if the fragment is streamed to an output
+     */
+    public DocumentBuffer appendFragment(DocumentBuffer fragment, String newLine) {
+        Validate.validState(fragment.output == null, "The fragment is streamed to an output and can not be appended");
+        StringBuilder content = fragment.buffer;
+        int length = content.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = content.charAt(i);
+            if (c == '\r' || c == '\n') {
+                append(content, start, i).append(newLine);
+                if (c == '\r' && i + 1 < length && content.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                start = i + 1;
+            }
+        }
+        return append(content, start, length);
+    }
+
+    private DocumentBuffer append(CharSequence text, int start, int end) {
+        if (start == end) {
+            return this;
+        }
+        if (output == null) {
+            buffer.append(text, start, end);
+        } else {
+            try {
+                output.append(text, start, end);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write markup document", e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return true if the buffered content is empty or whitespace only
+     * @throws IllegalStateException if the document is streamed to an output
+     */
+    public boolean isEmptyDocument() {
+        Validate.validState(output == null, "The document is streamed to an output and is not buffered");
+        return StringUtils.isBlank(buffer);
+    }
+
+    private void write(CharSequence text) {
+        try {
+            output.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write markup document", e);
+        }
+    }
+
+    /**
+     * Writes the buffered content to {@code output} and writes all further content directly to it.
+     *
+     * @param output the output of the document
+     */
+    public void streamTo(Appendable output) {
+        Validate.notNull(output, "output must not be null");
+        Validate.validState(this.output == null, "The document is already streamed to an output");
+        this.output = output;
+        write(buffer);
+        buffer = null;
+    }
+
+    /**
+     * @return true if the content is written to an output instead of being buffered
+     */
+    public boolean isStreamed() {
+        return output != null;
+    }
+
+    /**
+     * @return a new buffer with a copy of the buffered content
+     * @throws IllegalStateException if the document is streamed to an output
+     */
+    public DocumentBuffer copy() {
+        Validate.validState(output == null, "The document is streamed to an output and can not be copied");
+        return new DocumentBuffer(buffer);
+    }
+
+    /**
+     * @return the buffered content
+     * @throws IllegalStateException if the document is streamed to an output
+     */
+    @Override
+    public String toString() {
+        Validate.validState(output == null, "The document is streamed to an output and is not buffered");
+        return buffer.toString();
+    }
+}
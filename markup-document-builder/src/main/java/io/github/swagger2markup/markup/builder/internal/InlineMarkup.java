@@ -0,0 +1,121 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Static inline markup formatting shared by the builders and the per-language inline formatters.
+ * The formatters write into a caller-provided buffer instead of creating a builder.
+ */
+public final class InlineMarkup {
+
+    private InlineMarkup() {
+    }
+
+    /**
+     * Appends {@code text} between {@code markup} delimiters, like the builders' bold, italic and literal text.
+     *
+     * @param out     the buffer to write to
+     * @param markup  the delimiter
+     * @param text    the text, must not be blank
+     * @param newLine the replacement of newlines in {@code text}
+     * @return {@code out}
+     */
+    public static StringBuilder delimitedText(StringBuilder out, Markup markup, CharSequence text, String newLine) {
+        Validate.notBlank(text, "text must not be blank");
+        String delimiter = markup.toString();
+        if (!StringUtils.isBlank(delimiter))
+            out.append(delimiter);
+        appendReplacingNewLines(out, text, newLine);
+        if (!StringUtils.isBlank(delimiter))
+            out.append(delimiter);
+        return out;
+    }
+
+    /**
+     * Appends {@code text}, replacing each {@code \r\n}, {@code \r} and {@code \n} with {@code replacement}.
+     *
+     * @param out         the buffer to write to
+     * @param text        the text
+     * @param replacement the replacement of newlines
+     * @return {@code out}
+     */
+    public static StringBuilder appendReplacingNewLines(StringBuilder out, CharSequence text, String replacement) {
+        return appendReplacingNewLines(out, text, 0, replacement);
+    }
+
+    /**
+     * Replaces each {@code \r\n}, {@code \r} and {@code \n} in {@code content} with {@code replacement}.
+     * {@code content} is returned unchanged, without copying, when it contains no newline
+     * or when all its newlines already are {@code replacement}.
+     *
+     * @param content     the content
+     * @param replacement the replacement of newlines
+     * @return the content with replaced newlines
+     */
+    public static String replaceNewLines(String content, String replacement) {
+        int length = content.length();
+        for (int i = 0; i < length; i++) {
+            char c = content.charAt(i);
+            if (c == '\r' || c == '\n') {
+                int end = c == '\r' && i + 1 < length && content.charAt(i + 1) == '\n' ? i + 2 : i + 1;
+                if (end - i != replacement.length() || !content.regionMatches(i, replacement, 0, end - i)) {
+                    StringBuilder out = new StringBuilder(length + 16).append(content, 0, i);
+                    return appendReplacingNewLines(out, content, i, replacement).toString();
+                }
+                i = end - 1;
+            }
+        }
+        return content;
+    }
+
+    private static StringBuilder appendReplacingNewLines(StringBuilder out, CharSequence text, int from, String replacement) {
+        int length = text.length();
+        int start = from;
+        for (int i = from; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\r' || c == '\n') {
+                out.append(text, start, i).append(replacement);
+                if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                start = i + 1;
+            }
+        }
+        return out.append(text, start, length);
+    }
+
+    /**
+     * Normalizes {@code anchor} and adds {@code anchorPrefix}, using a cache shared by all builders.
+     * <p>
+     * Anchors are trimmed, lower cased and stripped of diacritical marks. Punctuations (excluding [-_]) and spaces are replaced
+     * with {@code spaceEscape}. Repeating separation characters [-_] are simplified, and leading and trailing ones are removed.
+     * Anchors still containing forbidden characters (non-ASCII, ...) are replaced with their MD5 hash.
+     *
+     * @param anchorPrefix the anchor prefix, or null
+     * @param spaceEscape  the escape character of the markup language
+     * @param anchor       the anchor
+     * @return the normalized anchor
+     */
+    public static String normalizeAnchor(String anchorPrefix, Markup spaceEscape, String anchor) {
+        return AnchorNormalizer.normalize(anchorPrefix, spaceEscape, anchor);
+    }
+}
@@ -23,11 +23,9 @@ import io.github.swagger2markup.markup.builder.internal.AbstractMarkupDocBuilder
 import io.github.swagger2markup.markup.builder.internal.Markup;
 import org.apache.commons.lang3.Validate;
 
-import java.io.File;
 import java.io.Reader;
 import java.util.*;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.*;
 
@@ -69,9 +67,10 @@ public class AsciiDocBuilder extends AbstractMarkupDocBuilder {
     @Override
     public MarkupDocBuilder copy(boolean copyBuffer) {
         AsciiDocBuilder builder = new AsciiDocBuilder(newLine, asciidocPegdownTimeoutMillis);
+        builder.markdownToAsciiDocConverter = markdownToAsciiDocConverter;
 
         if (copyBuffer)
-            builder.documentBuilder = new StringBuilder(this.documentBuilder);
+            builder.documentBuilder = this.documentBuilder.copy();
 
         return builder.withAnchorPrefix(anchorPrefix);
     }
@@ -164,22 +163,11 @@ public class AsciiDocBuilder extends AbstractMarkupDocBuilder {
     }
 
     private String normalizeAnchor(String anchor) {
-        String normalizedAnchor = "_" + normalizeAnchor(AsciiDoc.SPACE_ESCAPE, anchor);
-
-        if (normalizedAnchor.endsWith("-"))
-            normalizedAnchor += "_";
-
-        return normalizedAnchor;
+        return AsciiDocInline.normalizeAnchor(anchorPrefix, anchor);
     }
 
-    /**
-     * Partial workaround for https://github.com/asciidoctor/asciidoctor/issues/844
-     */
     private String normalizeDocument(String document) {
-        if (document == null)
-            return null;
-
-        return new File(document).toPath().normalize().toString();
+        return AsciiDocInline.normalizeDocument(document);
     }
 
     @Override
@@ -211,29 +199,46 @@ public class AsciiDocBuilder extends AbstractMarkupDocBuilder {
         return crossReferenceRaw(normalizeDocument(document), normalizeAnchor(anchor), text);
     }
 
+    @Override
+    public StringBuilder inlineBoldText(StringBuilder out, String text) {
+        return AsciiDocInline.bold(out, text, newLine);
+    }
+
+    @Override
+    public StringBuilder inlineItalicText(StringBuilder out, String text) {
+        return AsciiDocInline.italic(out, text, newLine);
+    }
+
+    @Override
+    public StringBuilder inlineLiteralText(StringBuilder out, String text) {
+        return AsciiDocInline.literal(out, text, newLine);
+    }
+
+    @Override
+    public StringBuilder inlineCrossReference(StringBuilder out, String document, String anchor, String text) {
+        return AsciiDocInline.crossReference(out, document, anchor, text, anchorPrefix);
+    }
+
     private String formatTableCell(String cell) {
         cell = replaceNewLines(cell.trim());
         return cell.replace(AsciiDoc.TABLE_COLUMN_DELIMITER.toString(), "\\" + AsciiDoc.TABLE_COLUMN_DELIMITER.toString());
     }
 
     @Override
-    public MarkupDocBuilder tableWithColumnSpecs(List<MarkupTableColumn> columnSpecs, List<List<String>> cells) {
-        Validate.notEmpty(cells, "cells must not be null");
-        Boolean hasHeader = false;
+    protected void writeTableHeader(List<MarkupTableColumn> columnSpecs) {
+        boolean hasHeader = false;
         List<String> options = new ArrayList<>();
         List<String> cols = new ArrayList<>();
-        if (columnSpecs != null && !columnSpecs.isEmpty()) {
-            for (MarkupTableColumn col : columnSpecs) {
-                if (!hasHeader && isNotBlank(col.header)) {
-                    options.add("header");
-                    hasHeader = true;
-                }
-                String languageStyle = col.markupSpecifiers.get(MarkupLanguage.ASCIIDOC);
-                if (languageStyle != null && isNoneBlank(languageStyle)) {
-                    cols.add(languageStyle);
-                } else {
-                    cols.add(String.valueOf(col.widthRatio) + (col.headerColumn ? "h" : ""));
-                }
+        for (MarkupTableColumn col : columnSpecs) {
+            if (!hasHeader && isNotBlank(col.header)) {
+                options.add("header");
+                hasHeader = true;
+            }
+            String languageStyle = col.markupSpecifiers.get(MarkupLanguage.ASCIIDOC);
+            if (languageStyle != null && isNoneBlank(languageStyle)) {
+                cols.add(languageStyle);
+            } else {
+                cols.add(String.valueOf(col.widthRatio) + (col.headerColumn ? "h" : ""));
             }
         }
 
@@ -241,17 +246,28 @@ public class AsciiDocBuilder extends AbstractMarkupDocBuilder {
         documentBuilder.append("[options=\"").append(join(options, ",")).append("\", cols=\"").append(join(cols, ",")).append("\"]").append(newLine);
         documentBuilder.append(AsciiDoc.TABLE).append(newLine);
         if (hasHeader) {
-            Collection<String> headerList = columnSpecs.stream().map(header -> formatTableCell(defaultString(header.header))).collect(Collectors.toList());
-            documentBuilder.append(AsciiDoc.TABLE_COLUMN_DELIMITER).append(join(headerList, AsciiDoc.TABLE_COLUMN_DELIMITER.toString())).append(newLine);
-
+            for (MarkupTableColumn header : columnSpecs) {
+                documentBuilder.append(AsciiDoc.TABLE_COLUMN_DELIMITER).append(formatTableCell(defaultString(header.header)));
+            }
+            documentBuilder.append(newLine);
         }
-        for (List<String> row : cells) {
-            Collection<String> cellList = row.stream().map(cell -> formatTableCell(defaultString(cell))).collect(Collectors.toList());
-            documentBuilder.append(AsciiDoc.TABLE_COLUMN_DELIMITER).append(join(cellList, AsciiDoc.TABLE_COLUMN_DELIMITER.toString())).append(newLine);
+    }
+
+    @Override
+    protected void writeTableRow(List<MarkupTableColumn> columnSpecs, List<String> cells) {
+        documentBuilder.append(AsciiDoc.TABLE_COLUMN_DELIMITER);
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0)
+                documentBuilder.append(AsciiDoc.TABLE_COLUMN_DELIMITER);
+            documentBuilder.append(formatTableCell(defaultString(cells.get(i))));
         }
+        documentBuilder.append(newLine);
+    }
+
+    @Override
+    protected void writeTableFooter(List<MarkupTableColumn> columnSpecs) {
         documentBuilder.append(AsciiDoc.TABLE).append(newLine);
         newLine();
-        return this;
     }
 
     @Override
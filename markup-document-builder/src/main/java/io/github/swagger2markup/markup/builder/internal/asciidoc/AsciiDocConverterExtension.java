@@ -1,5 +1,14 @@
 package io.github.swagger2markup.markup.builder.internal.asciidoc;
 
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
 import org.pegdown.Extensions;
 import org.pegdown.PegDownProcessor;
 import org.pegdown.ast.RootNode;
@@ -9,21 +18,177 @@ import nl.jworks.markdown_to_asciidoc.ToAsciiDocSerializer;
 
 public class AsciiDocConverterExtension extends Converter {
 
+    /**
+     * The least recently used conversions are evicted when the cache reaches this number of conversions, which bounds
+     * the memory used by long-lived processes.
+     */
+    public static final int MAX_CACHE_SIZE = 4096;
+
+    /**
+     * Number of conversions evicted at once, so that the cache is scanned once per {@code EVICTION_SIZE} insertions
+     * when it is full.
+     */
+    static final int EVICTION_SIZE = MAX_CACHE_SIZE / 16;
+
+    /**
+     * Maximum number of idle pegdown processors kept for reuse.
+     */
+    static final int MAX_POOLED_PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    private static final Pattern FENCED_CODE_BLOCK_PATTERN = Pattern.compile("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```");
+
+    private static final ConcurrentMap<ConversionKey, CachedConversion> CONVERSIONS = new ConcurrentHashMap<>();
+    private static final AtomicBoolean EVICTING = new AtomicBoolean();
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder CACHE_MISSES = new LongAdder();
+
+    /**
+     * Pegdown processors are expensive to create and not thread-safe, so a conversion borrows an idle one and
+     * returns it afterwards. Processors beyond {@link #MAX_POOLED_PROCESSORS} are dropped instead of being kept
+     * per thread, so that the threads of a pool do not retain them.
+     */
+    private static final BlockingQueue<TimedProcessor> PROCESSORS = new ArrayBlockingQueue<>(MAX_POOLED_PROCESSORS);
+
     /**
      * Converts markdown to asciidoc.
+     * Conversions are cached by markdown source and timeout, as the same descriptions are often repeated.
      *
      * @param markdown the markdown source to convert
      * @param timeoutMills parsing timeout
      * @return asciidoc format
      */
     public static String convertMarkdownToAsciiDoc(String markdown, long timeoutMills) {
-        PegDownProcessor processor = new PegDownProcessor(Extensions.ALL, timeoutMills);
+        ConversionKey key = new ConversionKey(markdown, timeoutMills);
+        CachedConversion conversion = CONVERSIONS.get(key);
+        if (conversion != null) {
+            CACHE_HITS.increment();
+            conversion.lastAccess = System.nanoTime();
+            return conversion.asciiDoc;
+        }
+        CACHE_MISSES.increment();
+        String asciiDoc = convert(markdown, timeoutMills);
+        if (CONVERSIONS.size() >= MAX_CACHE_SIZE)
+            evictLeastRecentlyUsed();
+        CachedConversion cachedConversion = CONVERSIONS.putIfAbsent(key, new CachedConversion(asciiDoc));
+        return cachedConversion != null ? cachedConversion.asciiDoc : asciiDoc;
+    }
+
+    /**
+     * @return the number of cached conversions
+     */
+    public static int getCacheSize() {
+        return CONVERSIONS.size();
+    }
+
+    /**
+     * @return the number of conversions read from the cache since it was last cleared, by all threads
+     */
+    public static long getCacheHits() {
+        return CACHE_HITS.sum();
+    }
+
+    /**
+     * @return the number of conversions not found in the cache since it was last cleared, by all threads
+     */
+    public static long getCacheMisses() {
+        return CACHE_MISSES.sum();
+    }
+
+    /**
+     * Clears the conversion cache and resets its hit and miss counters.
+     */
+    public static void clearCache() {
+        CONVERSIONS.clear();
+        CACHE_HITS.reset();
+        CACHE_MISSES.reset();
+    }
+
+    /**
+     * Evicts the {@link #EVICTION_SIZE} least recently used conversions, or more of them if they were last used at the
+     * same time. A thread finding another one evicting does not wait for it, the cache may then briefly exceed
+     * {@link #MAX_CACHE_SIZE}.
+     */
+    private static void evictLeastRecentlyUsed() {
+        if (!EVICTING.compareAndSet(false, true))
+            return;
+        try {
+            long[] lastAccesses = CONVERSIONS.values().stream().mapToLong(conversion -> conversion.lastAccess).toArray();
+            if (lastAccesses.length < MAX_CACHE_SIZE)
+                return;
+            Arrays.sort(lastAccesses);
+            long evictedLastAccess = lastAccesses[EVICTION_SIZE - 1];
+            CONVERSIONS.values().removeIf(conversion -> conversion.lastAccess <= evictedLastAccess);
+        } finally {
+            EVICTING.set(false);
+        }
+    }
+
+    private static String convert(String markdown, long timeoutMills) {
         // insert blank line before fenced code block if necessary
         if (markdown.contains("```")) {
-            markdown = markdown.replaceAll("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```", "\n$1```$2$3$1```");
+            markdown = FENCED_CODE_BLOCK_PATTERN.matcher(markdown).replaceAll("\n$1```$2$3$1```");
         }
         char[] markDown = markdown.toCharArray();
-        RootNode rootNode = processor.parseMarkdown(markDown);
-        return new ToAsciiDocSerializer(rootNode, markdown).toAsciiDoc();
+        TimedProcessor processor = borrowProcessor(timeoutMills);
+        try {
+            RootNode rootNode = processor.processor.parseMarkdown(markDown);
+            return new ToAsciiDocSerializer(rootNode, markdown).toAsciiDoc();
+        } finally {
+            PROCESSORS.offer(processor);
+        }
+    }
+
+    private static TimedProcessor borrowProcessor(long timeoutMills) {
+        TimedProcessor processor = PROCESSORS.poll();
+        if (processor == null || processor.timeoutMills != timeoutMills) {
+            processor = new TimedProcessor(new PegDownProcessor(Extensions.ALL, timeoutMills), timeoutMills);
+        }
+        return processor;
+    }
+
+    private static final class TimedProcessor {
+        private final PegDownProcessor processor;
+        private final long timeoutMills;
+
+        TimedProcessor(PegDownProcessor processor, long timeoutMills) {
+            this.processor = processor;
+            this.timeoutMills = timeoutMills;
+        }
+    }
+
+    private static final class CachedConversion {
+        private final String asciiDoc;
+        private volatile long lastAccess = System.nanoTime();
+
+        CachedConversion(String asciiDoc) {
+            this.asciiDoc = asciiDoc;
+        }
+    }
+
+    private static final class ConversionKey {
+        private final String markdown;
+        private final long timeoutMills;
+
+        ConversionKey(String markdown, long timeoutMills) {
+            this.markdown = markdown;
+            this.timeoutMills = timeoutMills;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConversionKey)) {
+                return false;
+            }
+            ConversionKey other = (ConversionKey) o;
+            return timeoutMills == other.timeoutMills && markdown.equals(other.markdown);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * markdown.hashCode() + Long.hashCode(timeoutMills);
+        }
     }
 }
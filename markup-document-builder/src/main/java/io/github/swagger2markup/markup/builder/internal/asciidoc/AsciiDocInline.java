@@ -0,0 +1,81 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal.asciidoc;
+
+import java.io.File;
+
+import io.github.swagger2markup.markup.builder.internal.InlineMarkup;
+
+/**
+ * Static AsciiDoc inline formatters which write into a caller-provided buffer.
+ * The output is identical to the corresponding {@link AsciiDocBuilder} methods.
+ */
+public final class AsciiDocInline {
+
+    private AsciiDocInline() {
+    }
+
+    public static StringBuilder bold(StringBuilder out, CharSequence text, String newLine) {
+        return InlineMarkup.delimitedText(out, AsciiDoc.BOLD, text, newLine);
+    }
+
+    public static StringBuilder italic(StringBuilder out, CharSequence text, String newLine) {
+        return InlineMarkup.delimitedText(out, AsciiDoc.ITALIC, text, newLine);
+    }
+
+    public static StringBuilder literal(StringBuilder out, CharSequence text, String newLine) {
+        return InlineMarkup.delimitedText(out, AsciiDoc.LITERAL, text, newLine);
+    }
+
+    public static StringBuilder crossReference(StringBuilder out, String document, String anchor, String text, String anchorPrefix) {
+        return crossReferenceRaw(out, normalizeDocument(document), normalizeAnchor(anchorPrefix, anchor), text);
+    }
+
+    public static StringBuilder crossReferenceRaw(StringBuilder out, String document, String anchor, String text) {
+        out.append(AsciiDoc.CROSS_REFERENCE_START);
+        if (document != null)
+            out.append(document).append("#");
+        out.append(anchor);
+        if (text != null) {
+            out.append(",").append(text);
+            if (text.endsWith(">"))
+                out.append(" ");
+        }
+        return out.append(AsciiDoc.CROSS_REFERENCE_END);
+    }
+
+    static String normalizeAnchor(String anchorPrefix, String anchor) {
+        String normalizedAnchor = "_" + InlineMarkup.normalizeAnchor(anchorPrefix, AsciiDoc.SPACE_ESCAPE, anchor);
+
+        if (normalizedAnchor.endsWith("-"))
+            normalizedAnchor += "_";
+
+        return normalizedAnchor;
+    }
+
+    /**
+     * Partial workaround for https://github.com/asciidoctor/asciidoctor/issues/844
+     */
+    static String normalizeDocument(String document) {
+        if (document == null)
+            return null;
+
+        return new File(document).toPath().normalize().toString();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal.asciidoc;
+
+import java.util.Collections;
+
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.Node;
+import org.commonmark.parser.Parser;
+
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
+
+/**
+ * Converts Markdown to AsciiDoc with the CommonMark parser, whose parsing time is linear in the size of the input.
+ * The AsciiDoc output follows the one of {@link AsciiDocConverterExtension}.
+ */
+public final class CommonMarkAsciiDocConverter implements MarkdownToAsciiDocConverter {
+
+    public static final CommonMarkAsciiDocConverter INSTANCE = new CommonMarkAsciiDocConverter();
+
+    /**
+     * Parsers are immutable and thread-safe.
+     */
+    private final Parser parser = Parser.builder()
+            .extensions(Collections.singletonList(TablesExtension.create()))
+            .build();
+
+    private CommonMarkAsciiDocConverter() {
+    }
+
+    @Override
+    public String convert(String markdown) {
+        Node document = parser.parse(markdown);
+        return new CommonMarkAsciiDocSerializer().toAsciiDoc(document);
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal.asciidoc;
+
+import org.apache.commons.lang3.StringUtils;
+import org.commonmark.ext.gfm.tables.TableBlock;
+import org.commonmark.ext.gfm.tables.TableHead;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.BlockQuote;
+import org.commonmark.node.BulletList;
+import org.commonmark.node.Code;
+import org.commonmark.node.CustomBlock;
+import org.commonmark.node.Emphasis;
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.Heading;
+import org.commonmark.node.HtmlBlock;
+import org.commonmark.node.HtmlInline;
+import org.commonmark.node.Image;
+import org.commonmark.node.IndentedCodeBlock;
+import org.commonmark.node.Link;
+import org.commonmark.node.ListBlock;
+import org.commonmark.node.ListItem;
+import org.commonmark.node.Node;
+import org.commonmark.node.OrderedList;
+import org.commonmark.node.Paragraph;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.StrongEmphasis;
+import org.commonmark.node.Text;
+import org.commonmark.node.ThematicBreak;
+
+/**
+ * Serializes a CommonMark document to AsciiDoc, like the pegdown based {@code ToAsciiDocSerializer}:
+ * <ul>
+ * <li>line breaks are kept as newlines, and spaces are collapsed</li>
+ * <li>{@code &}, {@code <} and {@code >} are encoded as HTML entities</li>
+ * <li>links whose text is their destination are rendered as bare URLs, and link texts containing a comma are quoted</li>
+ * </ul>
+ * A serializer is not thread-safe, a new one is used for each document.
+ */
+final class CommonMarkAsciiDocSerializer extends AbstractVisitor {
+
+    private static final String HR = "'''";
+
+    private StringBuilder out = new StringBuilder();
+    private int listDepth = 0;
+
+    String toAsciiDoc(Node document) {
+        document.accept(this);
+        return out.toString().trim();
+    }
+
+    @Override
+    public void visit(Heading heading) {
+        endLine(2);
+        out.append(StringUtils.repeat('=', heading.getLevel())).append(' ');
+        visitChildren(heading);
+        endLine(2);
+    }
+
+    @Override
+    public void visit(Paragraph paragraph) {
+        if (paragraph.getParent() instanceof ListItem) {
+            if (paragraph.getPrevious() != null) {
+                endLine(1);
+                out.append("+\n");
+            }
+            visitChildren(paragraph);
+            endLine(1);
+        } else {
+            endLine(2);
+            visitChildren(paragraph);
+            endLine(2);
+        }
+    }
+
+    @Override
+    public void visit(BlockQuote blockQuote) {
+        endLine(2);
+        out.append("____\n");
+        visitChildren(blockQuote);
+        endLine(1);
+        out.append("____");
+        endLine(2);
+    }
+
+    @Override
+    public void visit(BulletList bulletList) {
+        visitList(bulletList);
+    }
+
+    @Override
+    public void visit(OrderedList orderedList) {
+        visitList(orderedList);
+    }
+
+    @Override
+    public void visit(ListItem listItem) {
+        endLine(1);
+        char marker = listItem.getParent() instanceof OrderedList ? '.' : '*';
+        out.append(StringUtils.repeat(marker, listDepth)).append(' ');
+        visitChildren(listItem);
+        endLine(1);
+    }
+
+    @Override
+    public void visit(FencedCodeBlock fencedCodeBlock) {
+        String language = StringUtils.substringBefore(StringUtils.trimToEmpty(fencedCodeBlock.getInfo()), " ");
+        endLine(2);
+        if (!language.isEmpty())
+            out.append("[source,").append(language).append("]\n");
+        codeBlock(fencedCodeBlock.getLiteral());
+    }
+
+    @Override
+    public void visit(IndentedCodeBlock indentedCodeBlock) {
+        endLine(2);
+        codeBlock(indentedCodeBlock.getLiteral());
+    }
+
+    @Override
+    public void visit(ThematicBreak thematicBreak) {
+        endLine(2);
+        out.append(HR);
+        endLine(2);
+    }
+
+    @Override
+    public void visit(HtmlBlock htmlBlock) {
+        endLine(2);
+        out.append(htmlBlock.getLiteral().trim());
+        endLine(2);
+    }
+
+    @Override
+    public void visit(CustomBlock customBlock) {
+        if (customBlock instanceof TableBlock)
+            visitTable((TableBlock) customBlock);
+        else
+            visitChildren(customBlock);
+    }
+
+    @Override
+    public void visit(Text text) {
+        appendText(text.getLiteral());
+    }
+
+    @Override
+    public void visit(Code code) {
+        out.append('`');
+        appendEncoded(code.getLiteral());
+        out.append('`');
+    }
+
+    @Override
+    public void visit(Emphasis emphasis) {
+        out.append('_');
+        visitChildren(emphasis);
+        out.append('_');
+    }
+
+    @Override
+    public void visit(StrongEmphasis strongEmphasis) {
+        out.append('*');
+        visitChildren(strongEmphasis);
+        out.append('*');
+    }
+
+    @Override
+    public void visit(SoftLineBreak softLineBreak) {
+        out.append('\n');
+    }
+
+    @Override
+    public void visit(HardLineBreak hardLineBreak) {
+        out.append(" +\n");
+    }
+
+    @Override
+    public void visit(HtmlInline htmlInline) {
+        out.append(htmlInline.getLiteral());
+    }
+
+    @Override
+    public void visit(Link link) {
+        String text = render(link);
+        String destination = link.getDestination();
+        if (destination.startsWith("#")) {
+            out.append("<<").append(destination.substring(1)).append(',').append(text).append(">>");
+            return;
+        }
+        if (!destination.contains("://") && !destination.startsWith("mailto:"))
+            destination = "link:" + destination;
+        out.append(destination);
+        if (!text.isEmpty() && !text.equals(link.getDestination())) {
+            out.append('[');
+            if (text.contains(","))
+                out.append('"').append(text).append('"');
+            else
+                out.append(text);
+            out.append(']');
+        } else if (destination.startsWith("link:")) {
+            out.append("[]");
+        }
+    }
+
+    @Override
+    public void visit(Image image) {
+        out.append("image:").append(image.getDestination()).append('[').append(render(image)).append(']');
+    }
+
+    private void visitList(ListBlock list) {
+        endLine(listDepth == 0 ? 2 : 1);
+        listDepth++;
+        visitChildren(list);
+        listDepth--;
+        endLine(listDepth == 0 ? 2 : 1);
+    }
+
+    private void visitTable(TableBlock table) {
+        endLine(2);
+        if (table.getFirstChild() instanceof TableHead)
+            out.append("[options=\"header\"]\n");
+        out.append("|===\n");
+        for (Node section = table.getFirstChild(); section != null; section = section.getNext()) {
+            for (Node row = section.getFirstChild(); row != null; row = row.getNext()) {
+                for (Node cell = row.getFirstChild(); cell != null; cell = cell.getNext()) {
+                    out.append('|').append(render(cell).replace("|", "\\|"));
+                }
+                out.append('\n');
+            }
+        }
+        out.append("|===");
+        endLine(2);
+    }
+
+    private void codeBlock(String literal) {
+        out.append("----\n").append(literal);
+        endLine(1);
+        out.append("----");
+        endLine(2);
+    }
+
+    /**
+     * Renders the children of {@code node} on their own.
+     */
+    private String render(Node node) {
+        StringBuilder parent = out;
+        out = new StringBuilder();
+        visitChildren(node);
+        String rendered = out.toString();
+        out = parent;
+        return rendered;
+    }
+
+    /**
+     * Ends the current line, so that the output ends with at least {@code newLines} newlines, unless it is empty.
+     */
+    private void endLine(int newLines) {
+        if (out.length() == 0)
+            return;
+        int trailingNewLines = 0;
+        while (trailingNewLines < out.length() && out.charAt(out.length() - 1 - trailingNewLines) == '\n')
+            trailingNewLines++;
+        for (; trailingNewLines < newLines; trailingNewLines++)
+            out.append('\n');
+    }
+
+    private void appendText(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ' || c == '\t') {
+                if (out.length() == 0 || out.charAt(out.length() - 1) != ' ')
+                    out.append(' ');
+            } else {
+                appendEncoded(c);
+            }
+        }
+    }
+
+    private void appendEncoded(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            appendEncoded(text.charAt(i));
+        }
+    }
+
+    private void appendEncoded(char c) {
+        switch (c) {
+            case '&':
+                out.append("&amp;");
+                break;
+            case '<':
+                out.append("&lt;");
+                break;
+            case '>':
+                out.append("&gt;");
+                break;
+            default:
+                out.append(c);
+        }
+    }
+}
@@ -27,7 +27,6 @@ import org.apache.commons.lang3.Validate;
 import java.io.Reader;
 import java.util.HashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -79,7 +78,7 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
         ConfluenceMarkupBuilder builder = new ConfluenceMarkupBuilder(newLine);
 
         if (copyBuffer)
-            builder.documentBuilder = new StringBuilder(this.documentBuilder);
+            builder.documentBuilder = this.documentBuilder.copy();
 
         return builder.withAnchorPrefix(anchorPrefix);
     }
@@ -111,7 +110,7 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
 
         documentBuilder.append(newLine);
         documentBuilder.append(String.format(TITLE_FORMAT, level + 1, replaceNewLinesWithWhiteSpace(title)));
-        if (isBlank(anchor))
+        if (StringUtils.isBlank(anchor))
             anchor = title;
         documentBuilder.append(" ");
         anchor(replaceNewLinesWithWhiteSpace(anchor));
@@ -246,35 +245,37 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
     }
 
     @Override
-    public MarkupDocBuilder tableWithColumnSpecs(List<MarkupTableColumn> columnSpecs, List<List<String>> cells) {
-        Validate.notEmpty(cells, "cells must not be null");
+    protected void writeTableHeader(List<MarkupTableColumn> columnSpecs) {
         documentBuilder.append(newLine);
-        if (columnSpecs != null && !columnSpecs.isEmpty()) {
+        if (!columnSpecs.isEmpty()) {
             documentBuilder.append("||");
             for (MarkupTableColumn column : columnSpecs) {
                 documentBuilder.append(formatCellContent(defaultString(column.header))).append("||");
             }
             documentBuilder.append(newLine);
         }
-        for (List<String> row : cells) {
-            documentBuilder.append(ConfluenceMarkup.TABLE_COLUMN_DELIMITER);
-            ListIterator<String> cellIterator = row.listIterator();
-            while (cellIterator.hasNext()) {
-                int cellIndex = cellIterator.nextIndex();
-                if (columnSpecs != null && columnSpecs.size() > cellIndex && columnSpecs.get(cellIndex).headerColumn)
-                    documentBuilder.append(ConfluenceMarkup.TABLE_COLUMN_DELIMITER);
-
-                documentBuilder.append(formatCellContent(cellIterator.next())).append(ConfluenceMarkup.TABLE_COLUMN_DELIMITER);
-            }
-            documentBuilder.append(newLine);
+    }
+
+    @Override
+    protected void writeTableRow(List<MarkupTableColumn> columnSpecs, List<String> cells) {
+        documentBuilder.append(ConfluenceMarkup.TABLE_COLUMN_DELIMITER);
+        for (int cellIndex = 0; cellIndex < cells.size(); cellIndex++) {
+            if (columnSpecs.size() > cellIndex && columnSpecs.get(cellIndex).headerColumn)
+                documentBuilder.append(ConfluenceMarkup.TABLE_COLUMN_DELIMITER);
+
+            documentBuilder.append(formatCellContent(cells.get(cellIndex))).append(ConfluenceMarkup.TABLE_COLUMN_DELIMITER);
         }
         documentBuilder.append(newLine);
-        return this;
+    }
+
+    @Override
+    protected void writeTableFooter(List<MarkupTableColumn> columnSpecs) {
+        documentBuilder.append(newLine);
     }
 
     private String formatCellContent(String cell) {
         cell = replaceNewLines(cell.trim(), ConfluenceMarkup.LINE_BREAK.toString());
-        if (isBlank(cell)) {
+        if (StringUtils.isBlank(cell)) {
             return " ";
         }
         return escapeCellPipes(cell);
@@ -296,7 +297,7 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
     }
 
     private String normalizeAnchor(String anchor) {
-        return normalizeAnchor(ConfluenceMarkup.SPACE_ESCAPE, anchor);
+        return ConfluenceMarkupInline.normalizeAnchor(anchorPrefix, anchor);
     }
 
 
@@ -312,6 +313,26 @@ public final class ConfluenceMarkupBuilder extends AbstractMarkupDocBuilder {
         return this;
     }
 
+    @Override
+    public StringBuilder inlineBoldText(StringBuilder out, String text) {
+        return ConfluenceMarkupInline.bold(out, text, newLine);
+    }
+
+    @Override
+    public StringBuilder inlineItalicText(StringBuilder out, String text) {
+        return ConfluenceMarkupInline.italic(out, text, newLine);
+    }
+
+    @Override
+    public StringBuilder inlineLiteralText(StringBuilder out, String text) {
+        return ConfluenceMarkupInline.literal(out, text, newLine);
+    }
+
+    @Override
+    public StringBuilder inlineCrossReference(StringBuilder out, String document, String anchor, String text) {
+        return ConfluenceMarkupInline.crossReference(out, document, anchor, text, anchorPrefix);
+    }
+
     @Override
     public MarkupDocBuilder crossReferenceRaw(String document, String anchor, String text) {
         documentBuilder.append("[");
@@ -0,0 +1,65 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal.confluenceMarkup;
+
+import io.github.swagger2markup.markup.builder.internal.InlineMarkup;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Static Confluence inline formatters which write into a caller-provided buffer.
+ * The output is identical to the corresponding {@link ConfluenceMarkupBuilder} methods.
+ */
+public final class ConfluenceMarkupInline {
+
+    private ConfluenceMarkupInline() {
+    }
+
+    public static StringBuilder bold(StringBuilder out, CharSequence text, String newLine) {
+        return InlineMarkup.delimitedText(out, ConfluenceMarkup.BOLD, text, newLine);
+    }
+
+    public static StringBuilder italic(StringBuilder out, CharSequence text, String newLine) {
+        return InlineMarkup.delimitedText(out, ConfluenceMarkup.ITALIC, text, newLine);
+    }
+
+    public static StringBuilder literal(StringBuilder out, CharSequence text, String newLine) {
+        return InlineMarkup.delimitedText(out, ConfluenceMarkup.LITERAL, text, newLine);
+    }
+
+    public static StringBuilder crossReference(StringBuilder out, String document, String anchor, String text, String anchorPrefix) {
+        return crossReferenceRaw(out, document, normalizeAnchor(anchorPrefix, anchor), text);
+    }
+
+    public static StringBuilder crossReferenceRaw(StringBuilder out, String document, String anchor, String text) {
+        out.append("[");
+        if (isNotBlank(text)) {
+            out.append(text).append("|");
+        }
+        if (isNotBlank(document)) {
+            out.append(document);
+        }
+        out.append("#").append(anchor);
+        return out.append("]");
+    }
+
+    static String normalizeAnchor(String anchorPrefix, String anchor) {
+        return InlineMarkup.normalizeAnchor(anchorPrefix, ConfluenceMarkup.SPACE_ESCAPE, anchor);
+    }
+}
@@ -25,15 +25,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
 import java.io.Reader;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.defaultString;
-import static org.apache.commons.lang3.StringUtils.join;
 
 /**
  * @author Robert Winkler
@@ -67,7 +64,7 @@ public class MarkdownBuilder extends AbstractMarkupDocBuilder {
         MarkdownBuilder builder = new MarkdownBuilder(newLine);
 
         if (copyBuffer)
-            builder.documentBuilder = new StringBuilder(this.documentBuilder);
+            builder.documentBuilder = this.documentBuilder.copy();
 
         return builder.withAnchorPrefix(anchorPrefix);
     }
@@ -180,7 +177,7 @@ public class MarkdownBuilder extends AbstractMarkupDocBuilder {
     }
 
     private String normalizeAnchor(String anchor) {
-        return normalizeAnchor(Markdown.SPACE_ESCAPE, anchor);
+        return MarkdownInline.normalizeAnchor(anchorPrefix, anchor);
     }
 
     @Override
@@ -205,18 +202,42 @@ public class MarkdownBuilder extends AbstractMarkupDocBuilder {
         return crossReferenceRaw(document, normalizeAnchor(anchor), text);
     }
 
+    @Override
+    public StringBuilder inlineBoldText(StringBuilder out, String text) {
+        return MarkdownInline.bold(out, text, newLine);
+    }
+
+    @Override
+    public StringBuilder inlineItalicText(StringBuilder out, String text) {
+        return MarkdownInline.italic(out, text, newLine);
+    }
+
+    @Override
+    public StringBuilder inlineLiteralText(StringBuilder out, String text) {
+        return MarkdownInline.literal(out, text, newLine);
+    }
+
+    @Override
+    public StringBuilder inlineCrossReference(StringBuilder out, String document, String anchor, String text) {
+        return MarkdownInline.crossReference(out, document, anchor, text, anchorPrefix);
+    }
+
     private String formatTableCell(String cell) {
         cell = replaceNewLines(cell.trim(), "<br>");
         return cell.replace(Markdown.TABLE_COLUMN_DELIMITER.toString(), "\\" + Markdown.TABLE_COLUMN_DELIMITER.toString());
     }
 
     @Override
-    public MarkupDocBuilder tableWithColumnSpecs(List<MarkupTableColumn> columnSpecs, List<List<String>> cells) {
-        Validate.notEmpty(cells, "cells must not be null");
+    protected void writeTableHeader(List<MarkupTableColumn> columnSpecs) {
         newLine();
-        if (columnSpecs != null && !columnSpecs.isEmpty()) {
-            Collection<String> headerList = columnSpecs.stream().map(header -> formatTableCell(defaultString(header.header))).collect(Collectors.toList());
-            documentBuilder.append(Markdown.TABLE_COLUMN_DELIMITER).append(join(headerList, Markdown.TABLE_COLUMN_DELIMITER.toString())).append(Markdown.TABLE_COLUMN_DELIMITER).append(newLine);
+        if (!columnSpecs.isEmpty()) {
+            documentBuilder.append(Markdown.TABLE_COLUMN_DELIMITER);
+            for (int i = 0; i < columnSpecs.size(); i++) {
+                if (i > 0)
+                    documentBuilder.append(Markdown.TABLE_COLUMN_DELIMITER);
+                documentBuilder.append(formatTableCell(defaultString(columnSpecs.get(i).header)));
+            }
+            documentBuilder.append(Markdown.TABLE_COLUMN_DELIMITER).append(newLine);
 
             documentBuilder.append(Markdown.TABLE_COLUMN_DELIMITER);
             columnSpecs.forEach(col -> {
@@ -225,14 +246,22 @@ public class MarkdownBuilder extends AbstractMarkupDocBuilder {
             });
             documentBuilder.append(newLine);
         }
+    }
 
-        for (List<String> row : cells) {
-            Collection<String> cellList = row.stream().map(cell -> formatTableCell(defaultString(cell))).collect(Collectors.toList());
-            documentBuilder.append(Markdown.TABLE_COLUMN_DELIMITER).append(join(cellList, Markdown.TABLE_COLUMN_DELIMITER.toString())).append(Markdown.TABLE_COLUMN_DELIMITER).append(newLine);
+    @Override
+    protected void writeTableRow(List<MarkupTableColumn> columnSpecs, List<String> cells) {
+        documentBuilder.append(Markdown.TABLE_COLUMN_DELIMITER);
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0)
+                documentBuilder.append(Markdown.TABLE_COLUMN_DELIMITER);
+            documentBuilder.append(formatTableCell(defaultString(cells.get(i))));
         }
-        newLine();
+        documentBuilder.append(Markdown.TABLE_COLUMN_DELIMITER).append(newLine);
+    }
 
-        return this;
+    @Override
+    protected void writeTableFooter(List<MarkupTableColumn> columnSpecs) {
+        newLine();
     }
 
     @Override
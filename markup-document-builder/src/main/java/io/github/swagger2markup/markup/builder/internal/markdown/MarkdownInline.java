@@ -0,0 +1,60 @@
+/*
+ *
+ *  Copyright 2015 Robert Winkler
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package io.github.swagger2markup.markup.builder.internal.markdown;
+
+import io.github.swagger2markup.markup.builder.internal.InlineMarkup;
+
+/**
+ * Static Markdown inline formatters which write into a caller-provided buffer.
+ * The output is identical to the corresponding {@link MarkdownBuilder} methods.
+ */
+public final class MarkdownInline {
+
+    private MarkdownInline() {
+    }
+
+    public static StringBuilder bold(StringBuilder out, CharSequence text, String newLine) {
+        return InlineMarkup.delimitedText(out, Markdown.BOLD, text, newLine);
+    }
+
+    public static StringBuilder italic(StringBuilder out, CharSequence text, String newLine) {
+        return InlineMarkup.delimitedText(out, Markdown.ITALIC, text, newLine);
+    }
+
+    public static StringBuilder literal(StringBuilder out, CharSequence text, String newLine) {
+        return InlineMarkup.delimitedText(out, Markdown.LITERAL, text, newLine);
+    }
+
+    public static StringBuilder crossReference(StringBuilder out, String document, String anchor, String text, String anchorPrefix) {
+        return crossReferenceRaw(out, document, normalizeAnchor(anchorPrefix, anchor), text);
+    }
+
+    public static StringBuilder crossReferenceRaw(StringBuilder out, String document, String anchor, String text) {
+        if (text == null)
+            text = anchor.trim();
+        out.append("[").append(text).append("]").append("(");
+        if (document != null)
+            out.append(document);
+        return out.append("#").append(anchor).append(")");
+    }
+
+    static String normalizeAnchor(String anchorPrefix, String anchor) {
+        return InlineMarkup.normalizeAnchor(anchorPrefix, Markdown.SPACE_ESCAPE, anchor);
+    }
+}
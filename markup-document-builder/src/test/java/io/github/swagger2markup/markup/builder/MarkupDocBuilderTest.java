@@ -19,18 +19,22 @@
 package io.github.swagger2markup.markup.builder;
 
 import io.github.swagger2markup.markup.builder.assertions.DiffUtils;
+import io.github.swagger2markup.markup.builder.internal.asciidoc.AsciiDocConverterExtension;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -339,6 +343,63 @@ public class MarkupDocBuilderTest {
         Assertions.assertEquals("Long text " + lineSeparator + " bla bla " + lineSeparator + " bla " + lineSeparator + " bla" + lineSeparator + lineSeparator, builder.toString());
     }
 
+    @Test
+    public void shouldWriteToOutput() {
+        for (MarkupLanguage markupLanguage : MarkupLanguage.values()) {
+            MarkupDocBuilder buffered = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.UNIX);
+            StringBuilder output = new StringBuilder();
+            MarkupDocBuilder streamed = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.UNIX);
+            streamed.documentTitle("Test title");
+            streamed.withOutput(output);
+
+            for (MarkupDocBuilder builder : Arrays.asList(buffered.documentTitle("Test title"), streamed)) {
+                builder.sectionTitleWithAnchorLevel1("Section with anchor Level 1a")
+                        .paragraph("\rLine1\nLine2\r\n")
+                        .tableWithColumnSpecs(tableColumns, tableCells)
+                        .boldText("bold").italicText("italic").text("regular").newLine(true)
+                        .crossReference("./document.adoc", "anchor", "text");
+            }
+
+            Assertions.assertEquals(buffered.toString(), output.toString());
+            Assertions.assertThrows(IllegalStateException.class, streamed::toString);
+            Assertions.assertThrows(IllegalStateException.class, () -> streamed.copy(true));
+        }
+    }
+
+    @Test
+    public void shouldAppendFragment() {
+        for (MarkupLanguage markupLanguage : MarkupLanguage.values()) {
+            MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.WINDOWS);
+            MarkupDocBuilder fragment = builder.copy(false);
+            Assertions.assertTrue(fragment.isEmptyDocument());
+
+            fragment.boldText("bold").newLine(true).tableWithColumnSpecs(tableColumns, tableCells)
+                    .importMarkup(new StringReader("Line1\nLine2\r\nLine3\r"), markupLanguage);
+            Assertions.assertFalse(fragment.isEmptyDocument());
+
+            String expected = builder.copy(false).text("text").text(fragment.toString()).toString();
+            Assertions.assertEquals(expected, builder.text("text").appendFragment(fragment).toString());
+        }
+    }
+
+    @Test
+    public void shouldWriteInlineMarkupLikeBuilder() {
+        for (MarkupLanguage markupLanguage : MarkupLanguage.values()) {
+            MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.WINDOWS).withAnchorPrefix(" mdb test- ");
+            String text = "\\*text\rLine2\nLine3\r\n";
+
+            Assertions.assertEquals(builder.copy(false).boldText(text).toString(), builder.inlineBoldText(new StringBuilder(), text).toString());
+            Assertions.assertEquals(builder.copy(false).italicText(text).toString(), builder.inlineItalicText(new StringBuilder(), text).toString());
+            Assertions.assertEquals(builder.copy(false).literalText(text).toString(), builder.inlineLiteralText(new StringBuilder(), text).toString());
+            Assertions.assertEquals(builder.copy(false).crossReference("../doc/./document.adoc", " Anchor Ünicode- ", "text>").toString(),
+                    builder.inlineCrossReference(new StringBuilder(), "../doc/./document.adoc", " Anchor Ünicode- ", "text>").toString());
+            Assertions.assertEquals(builder.copy(false).crossReference(null, "日本語", null).toString(),
+                    builder.inlineCrossReference(new StringBuilder(), null, "日本語", null).toString());
+            Assertions.assertThrows(IllegalArgumentException.class, () -> builder.inlineBoldText(new StringBuilder(), " "));
+            Assertions.assertTrue(builder.isEmptyDocument());
+        }
+    }
+
     private void assertImportMarkup(String expected, String text, MarkupLanguage markupLanguage, int levelOffset) {
         MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.UNIX);
 
@@ -422,6 +483,72 @@ public class MarkupDocBuilderTest {
         assertImportMarkupException("Specified levelOffset (-3) set title 'title' level (1) < 0", "h2. title\nline 1\nline 2", MarkupLanguage.CONFLUENCE_MARKUP, -3);
     }
 
+    @Test
+    public void importMarkupConversionIsCached() {
+        AsciiDocConverterExtension.clearCache();
+        String markdown = "# Title\n\n```java\nint i = 0;\n```\nThe unique identifier";
+
+        MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX);
+        String expected = builder.importMarkup(new StringReader(markdown), MarkupLanguage.MARKDOWN).toString();
+        builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX);
+        Assertions.assertEquals(expected, builder.importMarkup(new StringReader(markdown), MarkupLanguage.MARKDOWN).toString());
+
+        Assertions.assertEquals(1, AsciiDocConverterExtension.getCacheSize());
+        Assertions.assertEquals(1, AsciiDocConverterExtension.getCacheMisses());
+        Assertions.assertEquals(1, AsciiDocConverterExtension.getCacheHits());
+        Assertions.assertSame(AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markdown, 0),
+                AsciiDocConverterExtension.convertMarkdownToAsciiDoc(markdown, 0));
+        Assertions.assertEquals(3, AsciiDocConverterExtension.getCacheHits());
+
+        AsciiDocConverterExtension.clearCache();
+        Assertions.assertEquals(0, AsciiDocConverterExtension.getCacheSize());
+        Assertions.assertEquals(0, AsciiDocConverterExtension.getCacheMisses());
+        Assertions.assertEquals(0, AsciiDocConverterExtension.getCacheHits());
+    }
+
+    @Test
+    public void importMarkupConversionCacheEvictsLeastRecentlyUsed() {
+        AsciiDocConverterExtension.clearCache();
+        String hotMarkdown = "The unique identifier";
+        AsciiDocConverterExtension.convertMarkdownToAsciiDoc(hotMarkdown, 0);
+
+        for (int i = 0; i < AsciiDocConverterExtension.MAX_CACHE_SIZE; i++) {
+            AsciiDocConverterExtension.convertMarkdownToAsciiDoc("Description " + i, 0);
+            if (i % 100 == 0) {
+                AsciiDocConverterExtension.convertMarkdownToAsciiDoc(hotMarkdown, 0);
+            }
+        }
+        long misses = AsciiDocConverterExtension.getCacheMisses();
+        AsciiDocConverterExtension.convertMarkdownToAsciiDoc(hotMarkdown, 0);
+        AsciiDocConverterExtension.convertMarkdownToAsciiDoc("Description " + (AsciiDocConverterExtension.MAX_CACHE_SIZE - 1), 0);
+
+        Assertions.assertEquals(AsciiDocConverterExtension.MAX_CACHE_SIZE + 1, misses);
+        Assertions.assertEquals(misses, AsciiDocConverterExtension.getCacheMisses());
+        Assertions.assertTrue(AsciiDocConverterExtension.getCacheSize() < AsciiDocConverterExtension.MAX_CACHE_SIZE);
+        Assertions.assertTrue(AsciiDocConverterExtension.getCacheSize() > AsciiDocConverterExtension.MAX_CACHE_SIZE / 2);
+        AsciiDocConverterExtension.clearCache();
+    }
+
+    @Test
+    public void importMarkupConversionWithCommonMark() {
+        MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX)
+                .withMarkdownToAsciiDocConverter(MarkdownParser.COMMONMARK.converter(0));
+        builder.importMarkup(new StringReader("# Title"), MarkupLanguage.MARKDOWN);
+        Assertions.assertEquals("\n= Title\n\n", builder.toString());
+
+        MarkdownToAsciiDocConverter converter = MarkdownParser.COMMONMARK.converter(0);
+        Assertions.assertEquals("The *unique* `id` of a &lt;pet&gt;\nin the _store_",
+                converter.convert("The  **unique**   `id` of a \\<pet\\>\nin the *store*"));
+        Assertions.assertEquals("http://swagger.io/irc/[\"irc.freenode.net, #swagger\"]",
+                converter.convert("[irc.freenode.net, #swagger](http://swagger.io/irc/)"));
+        Assertions.assertEquals("http://swagger.io", converter.convert("[http://swagger.io](http://swagger.io)"));
+        Assertions.assertEquals("<<pet,Pet>>", converter.convert("[Pet](#pet)"));
+        Assertions.assertEquals("[source,java]\n----\nint i = 0;\n----\n\nThe unique identifier",
+                converter.convert("```java\nint i = 0;\n```\nThe unique identifier"));
+        Assertions.assertEquals("* one\n* two\n** nested", converter.convert("- one\n- two\n  - nested"));
+        Assertions.assertEquals("line 1 +\nline 2", converter.convert("line 1  \nline 2"));
+    }
+
     @Test
     public void importMarkupConversion() {
         // ASCIIDOC -> ASCIIDOC
@@ -534,5 +661,65 @@ public class MarkupDocBuilderTest {
 
         DiffUtils.assertThatFileIsEqual(Paths.get(MarkupDocBuilderTest.class.getResource("/expected/confluenceMarkup/tableFormat.txt").toURI()), outputFile, "tableFormatConfluenceMarkup.html");
     }
+
+    @Test
+    public void streamedTableIsLikeTableWithColumnSpecs() throws URISyntaxException, IOException {
+        List<MarkupTableColumn> cols = Arrays.asList(
+                new MarkupTableColumn().withHeader("Header1\nfirst one"),
+                new MarkupTableColumn().withWidthRatio(2),
+                new MarkupTableColumn().withHeader("Header3").withWidthRatio(1).withHeaderColumn(true));
+        List<String> row = Arrays.asList("\nRow 2 \\| Column \r\n1\r", "Row 2 || Column 2", "Row 2 | | Column 3");
+        List<List<String>> confluenceCells = Arrays.asList(
+                Arrays.asList("Row 1 [Title|Page#Anchor] | Column 1", "Row 1 [Title1|Page#Anchor][Title2|Page#Anchor] [Title3|Page#Anchor] | Column [Title|Page#Anchor] 2", "Row 1 [Ti\\|t\\]\\[le|Page#Anchor] | Column 3"),
+                Arrays.asList("[Title|Page#Anchor]Row 1 | Column 1[Title|Page#Anchor]", "|[Title1|Page#Anchor]Row1 Column2|[Title1|Page#Anchor]", "|Row 1 Column 3|"),
+                row);
+
+        assertStreamedTable(MarkupLanguage.ASCIIDOC, cols, Collections.singletonList(row), "asciidoc/tableFormat.adoc");
+        assertStreamedTable(MarkupLanguage.MARKDOWN, cols, Collections.singletonList(row), "markdown/tableFormat.md");
+        assertStreamedTable(MarkupLanguage.CONFLUENCE_MARKUP, cols, confluenceCells, "confluenceMarkup/tableFormat.txt");
+
+        MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX);
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.tableRow(row));
+        Assertions.assertThrows(IllegalStateException.class, builder::endTable);
+        builder.beginTable(null);
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.beginTable(cols));
+    }
+
+    @Test
+    public void failedTableIsAbandoned() {
+        List<MarkupTableColumn> cols = Collections.singletonList(new MarkupTableColumn().withHeader("Header1"));
+        MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX)
+                .withOutput(new Writer() {
+                    @Override
+                    public void write(char[] buffer, int offset, int length) throws IOException {
+                        throw new IOException("closed");
+                    }
+
+                    @Override
+                    public void flush() {
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                });
+
+        Assertions.assertThrows(UncheckedIOException.class, () -> builder.beginTable(cols));
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.tableRow(Collections.singletonList("Row 1")));
+        Assertions.assertThrows(UncheckedIOException.class, () -> builder.beginTable(cols));
+    }
+
+    private void assertStreamedTable(MarkupLanguage markupLanguage, List<MarkupTableColumn> cols, List<List<String>> cells,
+                                     String expectedFile) throws URISyntaxException, IOException {
+        Path outputFile = Paths.get("build/test/streamed", expectedFile);
+        MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.UNIX).beginTable(cols);
+        for (List<String> row : cells) {
+            builder.tableRow(row);
+        }
+        builder.endTable().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8);
+
+        DiffUtils.assertThatFileIsEqual(Paths.get(MarkupDocBuilderTest.class.getResource("/expected/" + expectedFile).toURI()),
+                outputFile, "streamedTable" + markupLanguage + ".html");
+    }
     
 }
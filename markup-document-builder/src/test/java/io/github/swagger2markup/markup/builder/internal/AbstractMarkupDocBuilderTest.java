@@ -23,7 +23,7 @@ public class AbstractMarkupDocBuilderTest {
     public void setUp() {
         builder = mock(AbstractMarkupDocBuilder.class, Mockito.CALLS_REAL_METHODS);
         builder.newLine = "\n";
-        builder.documentBuilder = new StringBuilder();
+        builder.documentBuilder = new DocumentBuffer();
     }
 
     private String normalize(Markup markup, String anchor) {
@@ -72,6 +72,20 @@ public class AbstractMarkupDocBuilderTest {
         assertNormalization(Markdown.SPACE_ESCAPE, "sub-action-html-query-value", " /sub/action.html/?query=value ");
     }
 
+    @Test
+    public void testNormalizeAnchorCache() {
+        String anchor = " Tĥïŝ ĩš â really fůňķŷ Šťŕĭńġ ";
+        String normalized = normalize(AsciiDoc.SPACE_ESCAPE, anchor);
+        Assertions.assertSame(normalized, normalize(AsciiDoc.SPACE_ESCAPE, anchor));
+        assertEquals(normalized, AnchorNormalizer.normalizeUncached(null, AsciiDoc.SPACE_ESCAPE, anchor));
+
+        builder.anchorPrefix = "prefix ";
+        assertEquals("prefix_this_is_a_really_funky_string", normalize(AsciiDoc.SPACE_ESCAPE, anchor));
+        assertEquals("prefix-this-is-a-really-funky-string", normalize(Markdown.SPACE_ESCAPE, anchor));
+        assertEquals("prefix_sub_action_html_query_value", normalize(AsciiDoc.SPACE_ESCAPE, " /sub/action.html/?query=value "));
+        assertEquals(DigestUtils.md5Hex("prefix_\"quoted\""), normalize(AsciiDoc.SPACE_ESCAPE, " \"Quoted\""));
+    }
+
     @Test
     public void testCopy() {
         MarkupDocBuilder builder = MarkupDocBuilders.documentBuilder(MarkupLanguage.ASCIIDOC, LineSeparator.UNIX).withAnchorPrefix("anchor-");
@@ -101,4 +115,17 @@ public class AbstractMarkupDocBuilderTest {
         Assertions.assertEquals("This is text", internalCopy.documentBuilder.toString());
 
     }
+
+    @Test
+    public void testReplaceNewLines() {
+        String text = "Long text bla bla";
+        Assertions.assertSame(text, builder.replaceNewLines(text));
+        String normalized = "Long text \n bla bla \n";
+        Assertions.assertSame(normalized, builder.replaceNewLines(normalized));
+
+        assertEquals("Long text \n bla bla \n bla \n bla \n", builder.replaceNewLines("Long text \n bla bla \r bla \r\n bla \n"));
+        assertEquals("\r\n\r\n\r\nbla\r\n", builder.replaceNewLines("\n\r\r\nbla\r\n", "\r\n"));
+        assertEquals(" bla  bla ", builder.replaceNewLinesWithWhiteSpace("\rbla\r\n\nbla\n"));
+        assertEquals("$1 \\ $1", builder.replaceNewLines("$1\n$1", " \\ "));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The manifest of an incremental conversion, written into the output directory.
+ * <p>
+ * It records the settings of the conversion, i.e. the plugin version, the effective configuration and the
+ * extension classpath, and the content hash of each converted input file. An input file is up to date if neither
+ * the settings nor its content changed since it was recorded.
+ */
+final class ConversionManifest {
+
+    static final String FILE_NAME = ".openapi2markup-manifest.properties";
+
+    /**
+     * @param executionId the id of the plugin execution, or null
+     * @return the name of the manifest of the execution, so that executions sharing an output directory do not
+     * overwrite each other's manifest
+     */
+    static String fileName(String executionId) {
+        if (StringUtils.isBlank(executionId)) {
+            return FILE_NAME;
+        }
+        return ".openapi2markup-manifest-" + executionId.replaceAll("[^A-Za-z0-9._-]", "_") + ".properties";
+    }
+
+    private static final String INPUT_KEY_PREFIX = "input.";
+
+    private final Path file;
+    private final Map<String, String> settings;
+    private final Map<String, String> previousInputHashes = new TreeMap<>();
+    private final Map<String, String> inputHashes = new TreeMap<>();
+
+    private ConversionManifest(Path file, Map<String, String> settings) {
+        this.file = file;
+        this.settings = new TreeMap<>();
+        settings.forEach((key, value) -> this.settings.put(key, value == null ? "" : value));
+    }
+
+    /**
+     * Loads the manifest of the previous conversion, if any. Its input files are all out of date if it was written
+     * with other settings.
+     *
+     * @param file     the manifest file
+     * @param settings the settings of the current conversion
+     * @return the manifest of the current conversion
+     * @throws IOException if the manifest cannot be read
+     */
+    static ConversionManifest load(Path file, Map<String, String> settings) throws IOException {
+        ConversionManifest manifest = new ConversionManifest(file, settings);
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            boolean sameSettings = manifest.settings.entrySet().stream()
+                    .allMatch(setting -> setting.getValue().equals(properties.getProperty(setting.getKey())));
+            if (sameSettings) {
+                for (String key : properties.stringPropertyNames()) {
+                    if (key.startsWith(INPUT_KEY_PREFIX)) {
+                        manifest.previousInputHashes.put(key.substring(INPUT_KEY_PREFIX.length()), properties.getProperty(key));
+                    }
+                }
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * @param input       the input file
+     * @param contentHash the content hash of the input file
+     * @return true if the input file was converted with the same settings and content
+     */
+    boolean isUpToDate(File input, String contentHash) {
+        return contentHash.equals(previousInputHashes.get(key(input)));
+    }
+
+    /**
+     * Records a successfully converted, or up to date, input file.
+     */
+    void record(File input, String contentHash) {
+        inputHashes.put(key(input), contentHash);
+    }
+
+    /**
+     * Writes the manifest, replacing the one of the previous conversion.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    void save() throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(settings);
+        inputHashes.forEach((input, contentHash) -> properties.setProperty(INPUT_KEY_PREFIX + input, contentHash));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Generated by openapi2markup, delete it to convert all input files again");
+        }
+    }
+
+    /**
+     * @param input the input file
+     * @return the SHA-256 hash of the content of {@code input}
+     * @throws IOException if {@code input} cannot be read
+     */
+    static String contentHash(File input) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(input.toPath())) {
+            return DigestUtils.sha256Hex(inputStream);
+        }
+    }
+
+    /**
+     * @param config the effective configuration, whose order does not matter
+     * @return the SHA-256 hash of {@code config}
+     */
+    static String configHash(Map<String, String> config) {
+        StringBuilder entries = new StringBuilder();
+        new TreeMap<>(config).forEach((key, value) -> entries.append(key).append('=').append(value).append('\n'));
+        return DigestUtils.sha256Hex(entries.toString());
+    }
+
+    /**
+     * Hashes the entries of the classpath of {@code classLoader}, which includes the extensions declared as plugin
+     * dependencies, with the size and modification time of each archive so that rebuilt snapshots are detected.
+     *
+     * @param classLoader the class loader of the plugin
+     * @return the SHA-256 hash of the classpath
+     */
+    static String classpathHash(ClassLoader classLoader) {
+        StringBuilder entries = new StringBuilder();
+        if (classLoader instanceof URLClassLoader) {
+            for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+                entries.append(url);
+                File entry = FileUtils.toFile(url);
+                if (entry != null && entry.isFile()) {
+                    entries.append(';').append(entry.length()).append(';').append(entry.lastModified());
+                }
+                entries.append('\n');
+            }
+        }
+        return DigestUtils.sha256Hex(entries.toString());
+    }
+
+    private static String key(File input) {
+        return input.getAbsoluteFile().toPath().normalize().toString();
+    }
+}
@@ -21,12 +21,17 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.plugin.AbstractMojo;
@@ -71,6 +76,35 @@ public class OpenApi2MarkupMojo extends AbstractMojo {
     @Parameter(property = "swagger")
     protected boolean swagger;
 
+    /**
+     * The number of input files converted concurrently when {@code openApiInput} is a folder, either a number like
+     * {@code 4} or a multiple of the available processors like {@code 1C}. The files are converted one after the other
+     * if they are all written to {@code outputFile}.
+     */
+    @Parameter(property = "threads", defaultValue = "1")
+    protected String threads = "1";
+
+    /**
+     * Skips the conversion of the local input files which did not change since the last conversion, as recorded by a
+     * manifest in the output directory together with the plugin version, the configuration and the extension
+     * classpath. Files referenced by an input file are not tracked. Each execution of the plugin has its own manifest.
+     */
+    @Parameter(property = "incremental")
+    protected boolean incremental;
+
+    /**
+     * A directory caching the parsed models of the local input files across builds, keyed by their content and the
+     * parser version.
+     */
+    @Parameter(property = "parseCacheDirectory")
+    protected File parseCacheDirectory;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    protected String pluginVersion;
+
+    @Parameter(defaultValue = "${mojoExecution.executionId}", readonly = true)
+    protected String executionId;
+
     @Parameter(property = "overrideLabelsFile")
     private String overrideLabelsFile;
 
@@ -95,40 +129,193 @@ public class OpenApi2MarkupMojo extends AbstractMojo {
             }
         }
 
+        int threadCount = getThreadCount();
+
         // includes config overlay
         Map<String, String> overrideProps = processOverrides();
 
         try {
             OpenApi2MarkupConfigBuilder configBuilder = new OpenApi2MarkupConfigBuilder(overrideProps);
+            Map<String, String> overrideLabels = null;
             if (overrideLabelsFile != null) {
-              configBuilder.withLabelsOverride(getOverridenLabels());
+              overrideLabels = getOverridenLabels();
+              configBuilder.withLabelsOverride(overrideLabels);
             }
             OpenApi2MarkupConfig openApi2MarkupConfig = configBuilder.build();
+            ConversionManifest manifest = incremental ? loadManifest(overrideProps, overrideLabels) : null;
             if (isLocalFolder(openApiInput)) {
-              getOpenApiFiles(new File(openApiInput), true).forEach(f -> {
+              openApiFolderToMarkup(openApi2MarkupConfig, threadCount, manifest);
+            } else {
+              File openApiFile = new File(openApiInput);
+              String contentHash = manifest != null && isLocalFile(openApiInput) ? ConversionManifest.contentHash(openApiFile) : null;
+              if (contentHash != null && manifest.isUpToDate(openApiFile, contentHash)) {
+                getLog().info("Skipping '" + openApiInput + "', unchanged since the last conversion");
+              } else {
                 Builder converter = null;
                 if (swagger) {
-                  converter = OpenApi2MarkupConverter.fromSwagger(f.toURI());
+                  converter = OpenApi2MarkupConverter.fromSwagger(URIUtils.create(openApiInput));
                 } else {
-                  converter = OpenApi2MarkupConverter.from(f.toURI());
+                  converter = OpenApi2MarkupConverter.from(URIUtils.create(openApiInput));
                 }
-                openApiToMarkup(converter.withConfig(openApi2MarkupConfig).build(), true);
-              });
-            } else {
-              Builder converter = null;
-              if (swagger) {
-                converter = OpenApi2MarkupConverter.fromSwagger(URIUtils.create(openApiInput));
-              } else {
-                converter = OpenApi2MarkupConverter.from(URIUtils.create(openApiInput));
+                if (parseCacheDirectory != null) {
+                  converter.withParseCache(parseCacheDirectory.toPath());
+                }
+                openApiToMarkup(converter.withConfig(openApi2MarkupConfig).build(), null, getLog()::info);
+              }
+              if (contentHash != null) {
+                manifest.record(openApiFile, contentHash);
+                manifest.save();
               }
-              openApiToMarkup(converter.withConfig(openApi2MarkupConfig).build(), false);
             }
+        } catch (MojoFailureException e) {
+            throw e;
         } catch (Exception e) {
             throw new MojoFailureException("Failed to execute goal 'openapi2markup'", e);
         }
         getLog().debug("openapi2markup goal finished");
     }
 
+    private int getThreadCount() throws MojoExecutionException {
+        String value = StringUtils.trimToEmpty(threads);
+        int threadCount;
+        try {
+            if (StringUtils.endsWithIgnoreCase(value, "C")) {
+                float threadsPerCore = Float.parseFloat(value.substring(0, value.length() - 1));
+                threadCount = (int) (threadsPerCore * Runtime.getRuntime().availableProcessors());
+            } else {
+                threadCount = Integer.parseInt(value);
+            }
+        } catch (NumberFormatException e) {
+            throw new MojoExecutionException("Invalid threads value: '" + threads + "'", e);
+        }
+        if (threadCount < 1) {
+            throw new MojoExecutionException("Invalid threads value: '" + threads + "', at least one thread is required");
+        }
+        return threadCount;
+    }
+
+    /**
+     * Converts the files of the input folder with up to {@code threadCount} threads, the largest files first. The log
+     * messages of each file are written in the order of the files, and the conversion of the other files goes on when
+     * a file fails.
+     */
+    private void openApiFolderToMarkup(OpenApi2MarkupConfig openApi2MarkupConfig, int threadCount, ConversionManifest manifest)
+            throws MojoFailureException, InterruptedException, ExecutionException, IOException {
+        OpenApiFolderIndex folderIndex = OpenApiFolderIndex.of(new File(openApiInput));
+        List<File> openApiFiles = folderIndex.getOpenApiFiles();
+        List<FileConversion> failedConversions = new ArrayList<>();
+        int poolSize = Math.min(threadCount, openApiFiles.size());
+        if (poolSize > 1 && outputFile != null && outputDir == null) {
+            getLog().warn("Converting the files of '" + openApiInput + "' with a single thread, all of them are written to '"
+                    + outputFile + "'");
+            poolSize = 1;
+        }
+        if (poolSize <= 1) {
+            for (File openApiFile : openApiFiles) {
+                FileConversion conversion = openApiFileToMarkup(openApiFile, openApi2MarkupConfig, folderIndex, manifest, false);
+                recordConversion(conversion, manifest, failedConversions);
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+            try {
+                Map<File, Future<FileConversion>> conversions = new HashMap<>();
+                for (File openApiFile : folderIndex.getOpenApiFilesBySizeDescending()) {
+                    conversions.put(openApiFile, executor.submit(
+                            () -> openApiFileToMarkup(openApiFile, openApi2MarkupConfig, folderIndex, manifest, true)));
+                }
+                for (File openApiFile : openApiFiles) {
+                    FileConversion conversion = conversions.get(openApiFile).get();
+                    conversion.messages.forEach(getLog()::info);
+                    recordConversion(conversion, manifest, failedConversions);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        if (manifest != null) {
+            manifest.save();
+        }
+        if (!failedConversions.isEmpty()) {
+            MojoFailureException exception = new MojoFailureException("Failed to execute goal 'openapi2markup', "
+                    + failedConversions.size() + " of " + openApiFiles.size() + " files failed: "
+                    + failedConversions.stream().map(conversion -> conversion.openApiFile.getPath()).collect(Collectors.joining(", ")),
+                    failedConversions.get(0).failure);
+            failedConversions.stream().skip(1).forEach(conversion -> exception.addSuppressed(conversion.failure));
+            throw exception;
+        }
+    }
+
+    /**
+     * Converts a file of the input folder unless the manifest, if any, tells it is up to date. Its log messages are
+     * buffered if it is converted concurrently with other files.
+     */
+    private FileConversion openApiFileToMarkup(File openApiFile, OpenApi2MarkupConfig openApi2MarkupConfig,
+                                               OpenApiFolderIndex folderIndex, ConversionManifest manifest,
+                                               boolean bufferMessages) {
+        FileConversion conversion = new FileConversion(openApiFile);
+        Consumer<String> infoLog = bufferMessages ? conversion.messages::add : getLog()::info;
+        try {
+            if (manifest != null) {
+              conversion.contentHash = ConversionManifest.contentHash(openApiFile);
+              if (manifest.isUpToDate(openApiFile, conversion.contentHash)) {
+                infoLog.accept("Skipping '" + openApiFile + "', unchanged since the last conversion");
+                return conversion;
+              }
+            }
+            Builder converter = null;
+            if (swagger) {
+              converter = OpenApi2MarkupConverter.fromSwagger(openApiFile.toURI());
+            } else {
+              converter = OpenApi2MarkupConverter.from(openApiFile.toURI());
+            }
+            if (parseCacheDirectory != null) {
+              converter.withParseCache(parseCacheDirectory.toPath());
+            }
+            openApiToMarkup(converter.withConfig(openApi2MarkupConfig).build(), folderIndex, infoLog);
+        } catch (Exception e) {
+            conversion.failure = e;
+        }
+        return conversion;
+    }
+
+    private void recordConversion(FileConversion conversion, ConversionManifest manifest, List<FileConversion> failedConversions) {
+        if (conversion.failure != null) {
+            getLog().error("Failed to convert '" + conversion.openApiFile + "'", conversion.failure);
+            failedConversions.add(conversion);
+        } else if (manifest != null) {
+            manifest.record(conversion.openApiFile, conversion.contentHash);
+        }
+    }
+
+    /**
+     * Loads the manifest of the previous conversion from the output directory, or from the directory of the output
+     * file if there is no output directory.
+     */
+    private ConversionManifest loadManifest(Map<String, String> overrideProps, Map<String, String> overrideLabels) throws IOException {
+        File manifestDir = outputDir != null ? outputDir : outputFile != null ? outputFile.getAbsoluteFile().getParentFile() : null;
+        if (manifestDir == null) {
+            return null;
+        }
+        Map<String, String> effectiveConfig = new HashMap<>(overrideProps);
+        if (overrideLabels != null) {
+            overrideLabels.forEach((key, value) -> effectiveConfig.put("labels." + key, value));
+        }
+        effectiveConfig.put("swagger", String.valueOf(swagger));
+        // the output layout of a folder input depends on the path of each file relative to the input folder
+        effectiveConfig.put("openApiInput", getOpenApiInputAbsolutePath());
+        if (outputDir != null) {
+            effectiveConfig.put("outputDir", outputDir.getAbsolutePath());
+        }
+        if (outputFile != null) {
+            effectiveConfig.put("outputFile", outputFile.getPath());
+        }
+        Map<String, String> settings = new HashMap<>();
+        settings.put("pluginVersion", pluginVersion);
+        settings.put("config", ConversionManifest.configHash(effectiveConfig));
+        settings.put("classpath", ConversionManifest.classpathHash(getClass().getClassLoader()));
+        return ConversionManifest.load(new File(manifestDir, ConversionManifest.fileName(executionId)).toPath(), settings);
+    }
+
     private Map<String, String> getOverridenLabels() throws MojoExecutionException {
       Properties props = propertiesToMap(overrideLabelsFile);
       Map<String, String> map = new HashMap<>();
@@ -143,7 +330,14 @@ public class OpenApi2MarkupMojo extends AbstractMojo {
         return !openApiInput.toLowerCase().startsWith("http") && new File(openApiInput).isDirectory();
     }
 
-    private void openApiToMarkup(OpenApi2MarkupConverter converter, boolean inputIsLocalFolder) {
+    private static boolean isLocalFile(String openApiInput) {
+        return !openApiInput.toLowerCase().startsWith("http") && new File(openApiInput).isFile();
+    }
+
+    /**
+     * @param folderIndex the index of the input folder, or null if the input is not a local folder
+     */
+    private void openApiToMarkup(OpenApi2MarkupConverter converter, OpenApiFolderIndex folderIndex, Consumer<String> infoLog) {
         if (outputFile != null) {
             Path useFile = outputFile.toPath();
             /*
@@ -154,25 +348,25 @@ public class OpenApi2MarkupMojo extends AbstractMojo {
              * Otherwise, specifying the output file with an input DIRECTORY means
              * last file converted wins.
              */
-            if (inputIsLocalFolder) {
+            if (folderIndex != null) {
                 if ( outputDir != null ) {
                    File effectiveOutputDir = outputDir;
-                   effectiveOutputDir = getEffectiveOutputDirWhenInputIsAFolder(converter);
+                   effectiveOutputDir = getEffectiveOutputDirWhenInputIsAFolder(converter, folderIndex);
                    converter.getContext().setOutputPath(effectiveOutputDir.toPath());
                    useFile =  Paths.get(effectiveOutputDir.getPath(), useFile.getFileName().toString());
                 }
             }
             if ( getLog().isInfoEnabled() ) {
-               getLog().info("Converting input to one file: " + useFile);
+               infoLog.accept("Converting input to one file: " + useFile);
             }
             converter.toFile(useFile);
         } else if (outputDir != null) {
             File effectiveOutputDir = outputDir;
-            if (inputIsLocalFolder) {
-                effectiveOutputDir = getEffectiveOutputDirWhenInputIsAFolder(converter);
+            if (folderIndex != null) {
+                effectiveOutputDir = getEffectiveOutputDirWhenInputIsAFolder(converter, folderIndex);
             }
             if (getLog().isInfoEnabled()) {
-               getLog().info("Converting input to multiple files in folder: '" + effectiveOutputDir + "'");
+               infoLog.accept("Converting input to multiple files in folder: '" + effectiveOutputDir + "'");
             }
             converter.toFolder(effectiveOutputDir.toPath());
         } else {
@@ -180,9 +374,9 @@ public class OpenApi2MarkupMojo extends AbstractMojo {
         }
     }
 
-    private File getEffectiveOutputDirWhenInputIsAFolder(OpenApi2MarkupConverter converter) {
+    private File getEffectiveOutputDirWhenInputIsAFolder(OpenApi2MarkupConverter converter, OpenApiFolderIndex folderIndex) {
         String outputDirAddendum = getInputDirStructurePath(converter);
-        if (multipleOpenApiFilesInOpenApiLocationFolder(converter)) {
+        if (multipleOpenApiFilesInOpenApiLocationFolder(converter, folderIndex)) {
             /*
              * If the folder the current OpenApi file resides in contains at least one other OpenApi file then the
              * output dir must have an extra subdir per file to avoid markdown files getting overwritten.
@@ -207,20 +401,14 @@ public class OpenApi2MarkupMojo extends AbstractMojo {
         return StringUtils.remove(openApiFileFolder, getOpenApiInputAbsolutePath()); // /bar-service/v1
     }
 
-    private static boolean multipleOpenApiFilesInOpenApiLocationFolder(OpenApi2MarkupConverter converter) {
-        Collection<File> openApiFiles = getOpenApiFiles(new File(converter.getContext().getOpenApiLocation())
-          .getParentFile(), false);
-        return openApiFiles != null && openApiFiles.size() > 1;
+    private static boolean multipleOpenApiFilesInOpenApiLocationFolder(OpenApi2MarkupConverter converter, OpenApiFolderIndex folderIndex) {
+        return folderIndex.getOpenApiFileCount(new File(converter.getContext().getOpenApiLocation()).getParentFile()) > 1;
     }
 
     private static String extractOpenApiFileNameWithoutExtension(OpenApi2MarkupConverter converter) {
         return FilenameUtils.removeExtension(new File(converter.getContext().getOpenApiLocation()).getName());
     }
 
-    private static Collection<File> getOpenApiFiles(File directory, boolean recursive) {
-        return FileUtils.listFiles(directory, new String[]{"yaml", "yml", "json"}, recursive);
-    }
-
     /*
      * The 'openApiInput' provided by the user can be anything; it's just a string. Hence, it could by Unix-style,
      * Windows-style or even a mix thereof. This methods turns the input into a File and returns its absolute path. It
@@ -263,4 +451,15 @@ public class OpenApi2MarkupMojo extends AbstractMojo {
       }
       return props;
     }
+
+    private static final class FileConversion {
+        private final File openApiFile;
+        private final List<String> messages = new ArrayList<>();
+        private String contentHash;
+        private Exception failure;
+
+        private FileConversion(File openApiFile) {
+            this.openApiFile = openApiFile;
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.commons.io.FilenameUtils;
+
+/**
+ * The OpenAPI files of an input folder, found by a single walk of its tree, with the number of OpenAPI files of each
+ * directory and the size of each file.
+ */
+final class OpenApiFolderIndex {
+
+    private static final String[] OPEN_API_FILE_EXTENSIONS = {"yaml", "yml", "json"};
+
+    private final Map<Path, Long> fileSizes = new LinkedHashMap<>();
+    private final Map<Path, Integer> directoryFileCounts = new HashMap<>();
+
+    private OpenApiFolderIndex() {
+    }
+
+    /**
+     * Walks the tree of {@code directory}, following symbolic links.
+     *
+     * @param directory the input folder
+     * @return the index of the OpenAPI files of {@code directory} and its sub-directories
+     * @throws IOException if the tree cannot be walked
+     */
+    static OpenApiFolderIndex of(File directory) throws IOException {
+        OpenApiFolderIndex index = new OpenApiFolderIndex();
+        Files.walkFileTree(normalize(directory), EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                        if (attributes.isRegularFile()
+                                && FilenameUtils.isExtension(file.getFileName().toString(), OPEN_API_FILE_EXTENSIONS)) {
+                            index.fileSizes.put(file, attributes.size());
+                            index.directoryFileCounts.merge(file.getParent(), 1, Integer::sum);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        return index;
+    }
+
+    /**
+     * @return the OpenAPI files, in the order they were found
+     */
+    List<File> getOpenApiFiles() {
+        return fileSizes.keySet().stream().map(Path::toFile).collect(Collectors.toList());
+    }
+
+    /**
+     * @return the OpenAPI files, the largest first, so that the longest conversions are started first
+     */
+    List<File> getOpenApiFilesBySizeDescending() {
+        List<Map.Entry<Path, Long>> entries = new ArrayList<>(fileSizes.entrySet());
+        entries.sort(Collections.reverseOrder(Map.Entry.comparingByValue(Comparator.naturalOrder())));
+        return entries.stream().map(entry -> entry.getKey().toFile()).collect(Collectors.toList());
+    }
+
+    /**
+     * @param directory a directory of the input folder
+     * @return the number of OpenAPI files directly in {@code directory}
+     */
+    int getOpenApiFileCount(File directory) {
+        return directoryFileCounts.getOrDefault(normalize(directory), 0);
+    }
+
+    private static Path normalize(File file) {
+        return file.getAbsoluteFile().toPath().normalize();
+    }
+}
@@ -3,6 +3,7 @@ package io.github.swagger2markup;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -141,6 +142,63 @@ public class OpenApi2MarkupMojoTest {
         assertThat(directoryNames).containsOnly("swagger", "swagger2");
     }
 
+    @Test
+    public void shouldConvertIntoSubDirectoryConcurrentlyIfMultipleSwaggerFilesInSameInput() throws Exception {
+        //given that the input folder contains two Swagger files
+        OpenApi2MarkupMojo mojo = new OpenApi2MarkupMojo();
+        mojo.openApiInput = new File(INPUT_DIR).getAbsoluteFile().getAbsolutePath();
+        mojo.outputDir = new File(OUTPUT_DIR).getAbsoluteFile();
+        mojo.swagger = true;
+        mojo.threads = "2";
+
+        //when
+        mojo.execute();
+
+        //then
+        Iterable<String> outputFiles = recursivelyListFileNames(mojo.outputDir);
+        List<String> directoryNames = Arrays.asList(mojo.outputDir.listFiles()).stream().map(File::getName)
+                                            .collect(Collectors.toList());
+        assertThat(outputFiles).containsOnly("definitions.adoc", "overview.adoc", "paths.adoc", "security.adoc");
+        assertThat(outputFiles.spliterator().getExactSizeIfKnown()).isEqualTo(8); // same set of files twice
+        assertThat(directoryNames).containsOnly("swagger", "swagger2");
+    }
+
+    @Test
+    public void shouldConvertOtherFilesIfOneFileOfInputDirectoryFails() throws Exception {
+        //given that the input folder contains a valid and an invalid Swagger file
+        File inputDir = new File("target/invalid-input").getAbsoluteFile();
+        FileUtils.deleteQuietly(inputDir);
+        FileUtils.copyFile(new File(INPUT_DIR, SWAGGER_INPUT_FILE), new File(inputDir, SWAGGER_INPUT_FILE));
+        FileUtils.writeStringToFile(new File(inputDir, "invalid.json"), "{", StandardCharsets.UTF_8);
+        OpenApi2MarkupMojo mojo = new OpenApi2MarkupMojo();
+        mojo.openApiInput = inputDir.getAbsolutePath();
+        mojo.outputDir = new File(OUTPUT_DIR).getAbsoluteFile();
+        mojo.swagger = true;
+        mojo.threads = "1C";
+
+        //when
+        MojoFailureException exception = Assertions.assertThrows(MojoFailureException.class, mojo::execute);
+
+        //then
+        assertThat(exception).hasMessageContaining("invalid.json").hasMessageNotContaining(SWAGGER_INPUT_FILE);
+        Iterable<String> outputFiles = recursivelyListFileNames(new File(mojo.outputDir, "swagger"));
+        assertThat(outputFiles).containsOnly("definitions.adoc", "overview.adoc", "paths.adoc", "security.adoc");
+    }
+
+    @Test
+    public void testInvalidThreads() throws Exception {
+        //given
+        OpenApi2MarkupMojo mojo = new OpenApi2MarkupMojo();
+        mojo.openApiInput = new File(INPUT_DIR).getAbsoluteFile().getAbsolutePath();
+        mojo.outputDir = new File(OUTPUT_DIR).getAbsoluteFile();
+        mojo.threads = "0";
+
+        //when
+        Assertions.assertThrows(MojoExecutionException.class, () -> {
+          mojo.execute();
+        });
+    }
+
     @Test
     public void shouldConvertIntoSubDirectoryOneFileIfMultipleSwaggerFilesInSameInput() throws Exception {
         //given that the input folder contains two Swagger files
@@ -162,6 +220,136 @@ public class OpenApi2MarkupMojoTest {
         assertThat(directoryNames).containsOnly("swagger", "swagger2");
     }
 
+    @Test
+    public void shouldConvertOneFileAfterTheOtherIfInputIsDirectoryAndOutputIsOneFile() throws Exception {
+        //given that the input folder contains three Swagger files
+        OpenApi2MarkupMojo mojo = new OpenApi2MarkupMojo();
+        mojo.openApiInput = new File(RESOURCES_DIR + "/docs").getAbsoluteFile().getAbsolutePath();
+        mojo.outputFile = new File(OUTPUT_DIR, SWAGGER_OUTPUT_FILE).getAbsoluteFile();
+        mojo.swagger = true;
+        mojo.threads = "3";
+        List<File> openApiFiles = OpenApiFolderIndex.of(new File(mojo.openApiInput)).getOpenApiFiles();
+        OpenApi2MarkupMojo lastFileMojo = new OpenApi2MarkupMojo();
+        lastFileMojo.openApiInput = openApiFiles.get(openApiFiles.size() - 1).getAbsolutePath();
+        lastFileMojo.outputFile = new File(OUTPUT_DIR, "last").getAbsoluteFile();
+        lastFileMojo.swagger = true;
+        lastFileMojo.execute();
+
+        //when
+        mojo.execute();
+
+        //then the files are written one after the other and the last one wins
+        Iterable<String> outputFiles = recursivelyListFileNames(outputDir);
+        assertThat(outputFiles).containsOnly("swagger.adoc", "last.adoc");
+        assertThat(new File(OUTPUT_DIR, "swagger.adoc")).hasSameContentAs(new File(OUTPUT_DIR, "last.adoc"));
+    }
+
+    @Test
+    public void shouldSkipUnchangedInputIfIncremental() throws Exception {
+        //given that the input folder was converted incrementally before
+        OpenApi2MarkupMojo mojo = new OpenApi2MarkupMojo();
+        mojo.openApiInput = new File(INPUT_DIR).getAbsoluteFile().getAbsolutePath();
+        mojo.outputDir = new File(OUTPUT_DIR).getAbsoluteFile();
+        mojo.swagger = true;
+        mojo.incremental = true;
+        mojo.execute();
+        File overview = new File(mojo.outputDir, "swagger/overview.adoc");
+        FileUtils.deleteQuietly(overview);
+
+        //when
+        mojo.execute();
+
+        //then
+        assertThat(new File(mojo.outputDir, ConversionManifest.FILE_NAME)).exists();
+        assertThat(overview).doesNotExist();
+    }
+
+    @Test
+    public void shouldConvertAgainIfIncrementalAndConfigChanged() throws Exception {
+        //given that the input was converted incrementally before
+        OpenApi2MarkupMojo mojo = new OpenApi2MarkupMojo();
+        mojo.openApiInput = new File(INPUT_DIR, SWAGGER_INPUT_FILE).getAbsoluteFile().getAbsolutePath();
+        mojo.outputDir = new File(OUTPUT_DIR).getAbsoluteFile();
+        mojo.swagger = true;
+        mojo.incremental = true;
+        mojo.execute();
+        File overview = new File(mojo.outputDir, "overview.adoc");
+        FileUtils.deleteQuietly(overview);
+
+        //when
+        Map<String, String> config = new HashMap<>();
+        config.put(OpenApi2MarkupProperties.MARKUP_LANGUAGE, MarkupLanguage.ASCIIDOC.toString());
+        mojo.config = config;
+        mojo.execute();
+
+        //then
+        assertThat(overview).exists();
+    }
+
+    @Test
+    public void shouldConvertAgainIfIncrementalAndInputFolderChanged() throws Exception {
+        //given that the input folder was converted incrementally before
+        OpenApi2MarkupMojo mojo = new OpenApi2MarkupMojo();
+        mojo.openApiInput = new File(INPUT_DIR).getAbsoluteFile().getAbsolutePath();
+        mojo.outputDir = new File(OUTPUT_DIR).getAbsoluteFile();
+        mojo.swagger = true;
+        mojo.incremental = true;
+        mojo.execute();
+
+        //when the parent folder, which changes the output layout, is converted
+        mojo.openApiInput = new File(RESOURCES_DIR + "/docs").getAbsoluteFile().getAbsolutePath();
+        mojo.execute();
+
+        //then
+        assertThat(new File(mojo.outputDir, "swagger/swagger/overview.adoc")).exists();
+        assertThat(new File(mojo.outputDir, "swagger/swagger2/overview.adoc")).exists();
+    }
+
+    @Test
+    public void shouldKeepOneManifestPerExecution() throws Exception {
+        //given two executions sharing the output directory
+        OpenApi2MarkupMojo firstMojo = new OpenApi2MarkupMojo();
+        firstMojo.openApiInput = new File(INPUT_DIR, SWAGGER_INPUT_FILE).getAbsoluteFile().getAbsolutePath();
+        firstMojo.outputDir = new File(OUTPUT_DIR).getAbsoluteFile();
+        firstMojo.swagger = true;
+        firstMojo.incremental = true;
+        firstMojo.executionId = "first";
+        OpenApi2MarkupMojo secondMojo = new OpenApi2MarkupMojo();
+        secondMojo.openApiInput = new File(INPUT_DIR, "swagger2.json").getAbsoluteFile().getAbsolutePath();
+        secondMojo.outputDir = firstMojo.outputDir;
+        secondMojo.swagger = true;
+        secondMojo.incremental = true;
+        secondMojo.executionId = "second";
+
+        //when
+        firstMojo.execute();
+        secondMojo.execute();
+
+        //then
+        assertThat(new File(OUTPUT_DIR, ".openapi2markup-manifest-first.properties")).exists();
+        assertThat(new File(OUTPUT_DIR, ".openapi2markup-manifest-second.properties")).exists();
+        assertThat(new File(OUTPUT_DIR, ConversionManifest.FILE_NAME)).doesNotExist();
+    }
+
+    @Test
+    public void shouldCacheParsedInput() throws Exception {
+        //given that the input folder contains two Swagger files with the same content
+        OpenApi2MarkupMojo mojo = new OpenApi2MarkupMojo();
+        mojo.openApiInput = new File(INPUT_DIR).getAbsoluteFile().getAbsolutePath();
+        mojo.outputDir = new File(OUTPUT_DIR).getAbsoluteFile();
+        mojo.parseCacheDirectory = new File("target/parse-cache").getAbsoluteFile();
+        mojo.swagger = true;
+        FileUtils.deleteQuietly(mojo.parseCacheDirectory);
+
+        //when
+        mojo.execute();
+
+        //then
+        assertThat(mojo.parseCacheDirectory.list()).hasSize(1); // keyed by content
+        Iterable<String> outputFiles = recursivelyListFileNames(mojo.outputDir);
+        assertThat(outputFiles.spliterator().getExactSizeIfKnown()).isEqualTo(8);
+    }
+
     @Test
     public void shouldConvertIntoMarkdown() throws Exception {
         //given
@@ -16,12 +16,15 @@
 package io.github.swagger2markup;
 
 import io.github.swagger2markup.markup.builder.LineSeparator;
+import io.github.swagger2markup.markup.builder.MarkdownParser;
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.model.PathOperation;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 
 /**
@@ -252,6 +255,20 @@ public interface OpenApi2MarkupConfig {
      */
     int getAsciidocPegdownTimeoutMillis();
 
+    /**
+     * Specifies the parser used to convert Markdown descriptions to AsciiDoc.
+     *
+     * @return the Markdown parser
+     */
+    MarkdownParser getMarkdownParser();
+
+    /**
+     * Returns the converter of Markdown descriptions to AsciiDoc, either a custom one or the one of {@link #getMarkdownParser()}.
+     *
+     * @return the Markdown to AsciiDoc converter
+     */
+    MarkdownToAsciiDocConverter getMarkdownToAsciiDocConverter();
+
     /**
      * Returns OpenAPI version 2 compatibility
      * 
@@ -284,6 +301,62 @@ public interface OpenApi2MarkupConfig {
      */
     boolean isGeneratedOptionalQueryParameterExampleEnabled();
 
+    /**
+     * Specifies if the overview, paths, definitions and security documents are rendered concurrently by {@code toFolder}.
+     *
+     * Disabled by default
+     *
+     * @return true if documents are rendered concurrently
+     */
+    boolean isConcurrentDocumentsEnabled();
+
+    /**
+     * Optionally specifies the executor used to render documents concurrently.
+     * When null, the common fork/join pool is used.
+     *
+     * @return the document executor, or null
+     */
+    Executor getDocumentExecutor();
+
+    /**
+     * Specifies if path operations are rendered concurrently on the fork/join pool and joined in document order.
+     * They are rendered serially if paths document extensions are registered.
+     *
+     * Disabled by default
+     *
+     * @return true if path operations are rendered concurrently
+     */
+    boolean isConcurrentOperationsEnabled();
+
+    /**
+     * Specifies if definitions are rendered concurrently on the fork/join pool and joined in definition order.
+     * Separated definition files are then written concurrently as well.
+     * They are rendered serially if definitions document extensions are registered.
+     *
+     * Disabled by default
+     *
+     * @return true if definitions are rendered concurrently
+     */
+    boolean isConcurrentDefinitionsEnabled();
+
+    /**
+     * Specifies if object and primitive component schemas are wrapped in read-only model views instead of being copied into models.
+     *
+     * Disabled by default
+     *
+     * @return true if component schemas are wrapped in model views
+     */
+    boolean isModelViewsEnabled();
+
+    /**
+     * Specifies if documents are written directly to their output instead of being buffered in memory first.
+     *
+     * Disabled by default
+     *
+     * @return true if documents are written directly to their output
+     */
+    boolean isStreamingOutputEnabled();
+
     /**
      * Returns a map of overridden label keys;
      * 
@@ -15,38 +15,69 @@
  */
 package io.github.swagger2markup;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.swagger2markup.builder.OpenApi2MarkupConfigBuilder;
 import io.github.swagger2markup.builder.OpenApi2MarkupExtensionRegistryBuilder;
 import io.github.swagger2markup.internal.document.DefinitionsDocument;
 import io.github.swagger2markup.internal.document.OverviewDocument;
 import io.github.swagger2markup.internal.document.PathsDocument;
 import io.github.swagger2markup.internal.document.SecurityDocument;
+import io.github.swagger2markup.internal.utils.MarkupDescriptions;
 import io.github.swagger2markup.internal.utils.ModelUtils;
+import io.github.swagger2markup.internal.utils.ParseCache;
+import io.github.swagger2markup.internal.utils.TypeResolutionCache;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilders;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.model.Model;
 import io.github.swagger2markup.utils.URIUtils;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.parser.SwaggerResolver;
+import io.swagger.parser.util.SwaggerDeserializationResult;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.converter.SwaggerConverter;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import org.apache.commons.io.IOUtils;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
+import io.vavr.Lazy;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
+import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * @author Robert Winkler
@@ -117,6 +148,7 @@ public class OpenApi2MarkupConverter {
 
     /**
      * Creates a OpenApi2MarkupConverter.Builder using a remote URL.
+     * The source is parsed when the converter is built, see {@link Builder}.
      *
      * @param openApiURL the remote URL
      * @return a OpenApi2MarkupConverter Builder
@@ -141,6 +173,7 @@ public class OpenApi2MarkupConverter {
 
     /**
      * Creates a OpenApi2MarkupConverter.Builder using a local Path.
+     * The source is parsed when the converter is built, see {@link Builder}.
      *
      * @param openApiPath the local Path
      * @return a OpenApi2MarkupConverter
@@ -222,8 +255,7 @@ public class OpenApi2MarkupConverter {
         Validate.notNull(openApiReader, "openApiReader must not be null");
         OpenAPI openApi;
         try {
-            openApi = new OpenAPIV3Parser().readContents(IOUtils.toString(openApiReader), null, null)
-                .getOpenAPI();
+            openApi = new OpenAPIDeserializer().deserialize(readTree(openApiReader)).getOpenAPI();
         } catch (IOException e) {
             throw new RuntimeException("OpenAPI source can not be parsed", e);
         }
@@ -242,12 +274,33 @@ public class OpenApi2MarkupConverter {
     public static Builder fromSwagger(Reader swaggerReader) {
         Validate.notNull(swaggerReader, "openApiReader must not be null");
         try {
-          return new BuilderV2(IOUtils.toString(swaggerReader));
+          return new BuilderV2(readTree(swaggerReader));
         } catch (IOException e) {
           throw new RuntimeException("OpenAPI source can not be parsed", e);
         }
     }
 
+    /**
+     * Parses a JSON or YAML source straight from the reader into a tree, without copying the source into a String.
+     * Like the OpenAPI parsers, a source starting with <code>{</code> is parsed as JSON, any other one as YAML.
+     *
+     * @param reader the JSON or YAML reader
+     * @return the tree of the source
+     * @throws IOException if the source cannot be read or parsed
+     */
+    private static JsonNode readTree(Reader reader) throws IOException {
+        PushbackReader source = new PushbackReader(reader);
+        int firstChar;
+        do {
+            firstChar = source.read();
+        } while (firstChar != -1 && (Character.isWhitespace(firstChar) || firstChar == '\uFEFF'));
+        if (firstChar == -1)
+            throw new IllegalArgumentException("OpenAPI source is empty");
+        source.unread(firstChar);
+        ObjectMapper mapper = firstChar == '{' ? Json.mapper() : Yaml.mapper();
+        return mapper.readTree(source);
+    }
+
     /**
      * Returns the global Context
      *
@@ -267,37 +320,104 @@ public class OpenApi2MarkupConverter {
 
         context.setOutputPath(outputDirectory);
 
-        applyOverviewDocument()
-                .writeToFile(outputDirectory.resolve(context.config.getOverviewDocument()), StandardCharsets.UTF_8);
-        applyPathsDocument()
-                .writeToFile(outputDirectory.resolve(context.config.getPathsDocument()), StandardCharsets.UTF_8);
-        applyDefinitionsDocument()
-                .writeToFile(outputDirectory.resolve(context.config.getDefinitionsDocument()), StandardCharsets.UTF_8);
-        applySecurityDocument()
-                .writeToFile(outputDirectory.resolve(context.config.getSecurityDocument()), StandardCharsets.UTF_8);
+        if (context.config.isConcurrentDocumentsEnabled()) {
+            toFolderConcurrently(outputDirectory);
+            return;
+        }
+
+        writeDocument(this::applyOverviewDocument, outputDirectory.resolve(context.config.getOverviewDocument()), true);
+        writeDocument(this::applyPathsDocument, outputDirectory.resolve(context.config.getPathsDocument()), true);
+        writeDocument(this::applyDefinitionsDocument, outputDirectory.resolve(context.config.getDefinitionsDocument()), true);
+        writeDocument(this::applySecurityDocument, outputDirectory.resolve(context.config.getSecurityDocument()), true);
+    }
+
+    /**
+     * Renders the documents concurrently on the configured document executor.
+     * Each document is written as soon as it has been rendered.
+     *
+     * @param outputDirectory the output directory path
+     */
+    private void toFolderConcurrently(Path outputDirectory) {
+        Executor executor = Optional.ofNullable(context.config.getDocumentExecutor()).orElseGet(ForkJoinPool::commonPool);
+        CompletableFuture<?>[] documents = new CompletableFuture<?>[]{
+                writeDocumentAsync(this::applyOverviewDocument, outputDirectory.resolve(context.config.getOverviewDocument()), executor),
+                writeDocumentAsync(this::applyPathsDocument, outputDirectory.resolve(context.config.getPathsDocument()), executor),
+                writeDocumentAsync(this::applyDefinitionsDocument, outputDirectory.resolve(context.config.getDefinitionsDocument()), executor),
+                writeDocumentAsync(this::applySecurityDocument, outputDirectory.resolve(context.config.getSecurityDocument()), executor)
+        };
+        joinAll(documents);
+    }
+
+    private static void joinAll(CompletableFuture<?>[] futures) {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Failed to convert the OpenAPI specification", e.getCause());
+        }
     }
 
-    private MarkupDocBuilder applyOverviewDocument() {
+    private CompletableFuture<Void> writeDocumentAsync(Function<MarkupDocBuilder, MarkupDocBuilder> document, Path outputFile, Executor executor) {
+        return CompletableFuture.runAsync(() -> writeDocument(document, outputFile, true), executor);
+    }
+
+    /**
+     * Renders a document and writes it to a file, followed by 2 newLines.
+     * With streaming output, the document is written to the file while it is rendered, instead of being buffered first.
+     *
+     * @param document         renders the document into a builder
+     * @param outputFile       the output file
+     * @param addFileExtension if an extension identifying the markup language is added to the file name
+     * @param options          the file open options
+     */
+    private void writeDocument(Function<MarkupDocBuilder, MarkupDocBuilder> document, Path outputFile, boolean addFileExtension, OpenOption... options) {
+        MarkupDocBuilder markupDocBuilder = context.createMarkupDocBuilder();
+        if (!context.config.isStreamingOutputEnabled()) {
+            if (addFileExtension) {
+                document.apply(markupDocBuilder).writeToFile(outputFile, StandardCharsets.UTF_8, options);
+            } else {
+                document.apply(markupDocBuilder).writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, options);
+            }
+            return;
+        }
+
+        Path file = addFileExtension ? markupDocBuilder.addFileExtension(outputFile) : outputFile;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, options)) {
+                document.apply(markupDocBuilder.withOutput(writer)).newLine().newLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write file", e);
+        }
+        LOG.info("Markup document written to: {}", file);
+    }
+
+    private MarkupDocBuilder applyOverviewDocument(MarkupDocBuilder markupDocBuilder) {
         return overviewDocument.apply(
-                context.createMarkupDocBuilder(),
+                markupDocBuilder,
                 OverviewDocument.parameters(context.getOpenApi()));
     }
 
-    private MarkupDocBuilder applyPathsDocument() {
+    private MarkupDocBuilder applyPathsDocument(MarkupDocBuilder markupDocBuilder) {
         return pathsDocument.apply(
-                context.createMarkupDocBuilder(),
+                markupDocBuilder,
                 PathsDocument.parameters(context.getOpenApi().getPaths()));
     }
 
-    private MarkupDocBuilder applyDefinitionsDocument() {
+    private MarkupDocBuilder applyDefinitionsDocument(MarkupDocBuilder markupDocBuilder) {
         return definitionsDocument.apply(
-                context.createMarkupDocBuilder(),
-                DefinitionsDocument.parameters(ModelUtils.getComponentModels(context)));
+                markupDocBuilder,
+                DefinitionsDocument.parameters(context.getComponentModels()));
     }
 
-    private MarkupDocBuilder applySecurityDocument() {
+    private MarkupDocBuilder applySecurityDocument(MarkupDocBuilder markupDocBuilder) {
         return securityDocument.apply(
-                context.createMarkupDocBuilder(),
+                markupDocBuilder,
                 SecurityDocument.parameters(context.getOpenApi().getComponents().getSecuritySchemes()));
     }
 
@@ -326,10 +446,10 @@ public class OpenApi2MarkupConverter {
     public void toFile(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        applyOverviewDocument().writeToFile(outputFile, StandardCharsets.UTF_8);
-        applyPathsDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applyDefinitionsDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applySecurityDocument().writeToFile(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        writeDocument(this::applyOverviewDocument, outputFile, true);
+        writeDocument(this::applyPathsDocument, outputFile, true, StandardOpenOption.APPEND);
+        writeDocument(this::applyDefinitionsDocument, outputFile, true, StandardOpenOption.APPEND);
+        writeDocument(this::applySecurityDocument, outputFile, true, StandardOpenOption.APPEND);
     }
 
     /**
@@ -340,10 +460,10 @@ public class OpenApi2MarkupConverter {
     public void toFileWithoutExtension(Path outputFile) {
         Validate.notNull(outputFile, "outputFile must not be null");
 
-        applyOverviewDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8);
-        applyPathsDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applyDefinitionsDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
-        applySecurityDocument().writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        writeDocument(this::applyOverviewDocument, outputFile, false);
+        writeDocument(this::applyPathsDocument, outputFile, false, StandardOpenOption.APPEND);
+        writeDocument(this::applyDefinitionsDocument, outputFile, false, StandardOpenOption.APPEND);
+        writeDocument(this::applySecurityDocument, outputFile, false, StandardOpenOption.APPEND);
     }
 
     /**
@@ -354,10 +474,17 @@ public class OpenApi2MarkupConverter {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append(applyOverviewDocument().toString());
-        sb.append(applyPathsDocument().toString());
-        sb.append(applyDefinitionsDocument().toString());
-        sb.append(applySecurityDocument().toString());
+        if (context.config.isStreamingOutputEnabled()) {
+            applyOverviewDocument(context.createMarkupDocBuilder().withOutput(sb));
+            applyPathsDocument(context.createMarkupDocBuilder().withOutput(sb));
+            applyDefinitionsDocument(context.createMarkupDocBuilder().withOutput(sb));
+            applySecurityDocument(context.createMarkupDocBuilder().withOutput(sb));
+            return sb.toString();
+        }
+        sb.append(applyOverviewDocument(context.createMarkupDocBuilder()).toString());
+        sb.append(applyPathsDocument(context.createMarkupDocBuilder()).toString());
+        sb.append(applyDefinitionsDocument(context.createMarkupDocBuilder()).toString());
+        sb.append(applySecurityDocument(context.createMarkupDocBuilder()).toString());
         return sb.toString();
     }
 
@@ -369,7 +496,7 @@ public class OpenApi2MarkupConverter {
        * @param swaggerUrl the remote URL
        */
       BuilderV2(URL swaggerUrl) {
-        super(readAndConvertSwagger(swaggerUrl));
+        super(null, null, () -> readAndConvertSwagger(swaggerUrl));
       }
 
       private static OpenAPI readAndConvertSwagger(URL swaggerUrl) {
@@ -389,6 +516,14 @@ public class OpenApi2MarkupConverter {
         return result.getOpenAPI();
       }
 
+      private static OpenAPI convertSwaggerFromTree(JsonNode swaggerNode) {
+        SwaggerDeserializationResult result = new SwaggerParser().readWithInfo(swaggerNode);
+        if (result.getSwagger() != null) {
+          result.setSwagger(new SwaggerResolver(result.getSwagger(), new ArrayList<>(), null).resolve());
+        }
+        return new SwaggerConverter().convert(result).getOpenAPI();
+      }
+
       private static OpenAPI convertSwaggerFromString(String swaggerString) {
         SwaggerConverter v2Converter = new SwaggerConverter();
         ParseOptions options = new ParseOptions();
@@ -403,20 +538,42 @@ public class OpenApi2MarkupConverter {
        * @param swaggerPath the local Path
        */
       BuilderV2(Path swaggerPath) {
-        super(readAndConvertSwagger(swaggerPath.toAbsolutePath().toUri().toString()));
-        super.openApiLocation = swaggerPath.toAbsolutePath().toUri();
+        super(swaggerPath.toAbsolutePath().toUri(), swaggerPath,
+            () -> readAndConvertSwagger(swaggerPath.toAbsolutePath().toUri().toString()));
       }
 
       public BuilderV2(String swaggerString) {
         super(convertSwaggerFromString(swaggerString));
       }
+
+      /**
+       * Creates a Swagger V2 Builder from a parsed JSON or YAML tree, resolving it like a Swagger V2 String.
+       *
+       * @param swaggerNode the tree of the Swagger V2 source
+       */
+      BuilderV2(JsonNode swaggerNode) {
+        super(convertSwaggerFromTree(swaggerNode));
+      }
     }
 
+    /**
+     * Builds an {@link OpenApi2MarkupConverter}.
+     * <p>
+     * A source given as a {@link URI}, {@link URL} or {@link Path} is parsed by {@link #build()} or
+     * {@link #toFolders(Path)}, not when the Builder is created, so that a parse cache can be configured first.
+     * Errors of such a source, like a malformed or unreadable document, are therefore thrown by these methods.
+     * Only a missing or hidden local file is rejected when the Builder is created.
+     */
     public static class Builder {
-        protected final OpenAPI openApi;
+        protected OpenAPI openApi;
         protected URI openApiLocation;
+        private final Path openApiPath;
+        private final Supplier<OpenAPI> openApiParser;
+        private Path parseCacheDirectory;
         private OpenApi2MarkupConfig config;
         private OpenApi2MarkupExtensionRegistry extensionRegistry;
+        private List<MarkupLanguage> markupLanguages = Collections.emptyList();
+        private List<Language> outputLanguages = Collections.emptyList();
 
         /**
          * Creates a Builder from a remote URL.
@@ -429,7 +586,8 @@ public class OpenApi2MarkupConverter {
             } catch (URISyntaxException e) {
                 throw new IllegalArgumentException("openApiUrl is in a wrong format", e);
             }
-            this.openApi = readOpenAPI(openApiUrl.toString());
+            this.openApiPath = null;
+            this.openApiParser = () -> readOpenAPI(openApiUrl.toString());
         }
 
         /**
@@ -438,8 +596,20 @@ public class OpenApi2MarkupConverter {
          * @param openApiPath the local Path
          */
         Builder(Path openApiPath) {
-            this.openApiLocation = openApiPath.toAbsolutePath().toUri();
-            this.openApi = readOpenAPI(openApiPath.toString());
+            this(openApiPath.toAbsolutePath().toUri(), openApiPath, () -> readOpenAPI(openApiPath.toString()));
+        }
+
+        /**
+         * Creates a Builder which parses its source when it is built.
+         *
+         * @param openApiLocation the location of the source, if any
+         * @param openApiPath     the source if it is a local Path, whose parsed model can be cached
+         * @param openApiParser   the parser of the source
+         */
+        Builder(URI openApiLocation, Path openApiPath, Supplier<OpenAPI> openApiParser) {
+            this.openApiLocation = openApiLocation;
+            this.openApiPath = openApiPath;
+            this.openApiParser = openApiParser;
         }
 
         /**
@@ -450,6 +620,8 @@ public class OpenApi2MarkupConverter {
         Builder(OpenAPI openApi) {
             this.openApi = openApi;
             this.openApiLocation = null;
+            this.openApiPath = null;
+            this.openApiParser = null;
         }
 
         /**
@@ -458,7 +630,7 @@ public class OpenApi2MarkupConverter {
          * @param openApiLocation the location of the OpenAPI source
          * @return the OpenAPI model
          */
-        private OpenAPI readOpenAPI(String openApiLocation) {
+        private static OpenAPI readOpenAPI(String openApiLocation) {
             OpenAPI openApi = new OpenAPIV3Parser().read(openApiLocation);
             if (openApi == null) {
                 throw new IllegalArgumentException("Failed to read the OpenAPI source");
@@ -466,6 +638,19 @@ public class OpenApi2MarkupConverter {
             return openApi;
         }
 
+        /**
+         * Specifies a directory caching the parsed model of a local source across runs.
+         * The cache entries are keyed by the content of the source and the version of the parser, see {@link ParseCache}.
+         *
+         * @param parseCacheDirectory the cache directory
+         * @return this builder
+         */
+        public Builder withParseCache(Path parseCacheDirectory) {
+            Validate.notNull(parseCacheDirectory, "parseCacheDirectory must not be null");
+            this.parseCacheDirectory = parseCacheDirectory;
+            return this;
+        }
+
         public Builder withConfig(OpenApi2MarkupConfig config) {
             Validate.notNull(config, "config must not be null");
             this.config = config;
@@ -478,7 +663,95 @@ public class OpenApi2MarkupConverter {
             return this;
         }
 
+        /**
+         * Specifies the markup languages rendered by {@link #toFolders(Path)}.
+         * Each markup language is rendered into a subfolder named after it, e.g. {@code asciidoc} or {@code markdown}.
+         *
+         * @param markupLanguages the markup languages
+         * @return this builder
+         */
+        public Builder withMarkupLanguages(MarkupLanguage... markupLanguages) {
+            Validate.noNullElements(markupLanguages, "markupLanguages must not contain null");
+            this.markupLanguages = Arrays.asList(markupLanguages);
+            return this;
+        }
+
+        /**
+         * Specifies the output languages rendered by {@link #toFolders(Path)}.
+         * Each output language is rendered into a subfolder named after it, e.g. {@code en} or {@code de}.
+         *
+         * @param outputLanguages the output languages
+         * @return this builder
+         */
+        public Builder withOutputLanguages(Language... outputLanguages) {
+            Validate.noNullElements(outputLanguages, "outputLanguages must not contain null");
+            this.outputLanguages = Arrays.asList(outputLanguages);
+            return this;
+        }
+
         public OpenApi2MarkupConverter build() {
+            prepare();
+
+            Context context = new Context(config, extensionRegistry, openApi, openApiLocation);
+
+            initExtensions(context);
+
+            applyOpenAPIExtensions(context);
+
+            return new OpenApi2MarkupConverter(context);
+        }
+
+        /**
+         * Converts the OpenAPI specification into every combination of the configured markup languages and output languages.
+         * The specification is parsed, extended and converted to models once, and every combination is rendered into
+         * its own subfolder of the {@code outputDirectory}, e.g. {@code asciidoc/en}.
+         * Without markup languages or output languages, the configured ones are used and no subfolder is created for them.
+         * The configuration, if any, must be built by an {@link OpenApi2MarkupConfigBuilder}.
+         * <p>
+         * The targets are rendered concurrently on the common fork/join pool,
+         * unless document extensions are registered, which share a single global context.
+         *
+         * @param outputDirectory the output directory path
+         */
+        public void toFolders(Path outputDirectory) {
+            Validate.notNull(outputDirectory, "outputDirectory must not be null");
+            prepare();
+
+            Context context = new Context(config, extensionRegistry, openApi, openApiLocation);
+            extensionRegistry.getOpenApiModelExtensions().forEach(extension -> extension.setGlobalContext(context));
+            applyOpenAPIExtensions(context);
+
+            Map<Path, Context> targets = new LinkedHashMap<>();
+            for (MarkupLanguage markupLanguage : markupLanguages.isEmpty() ? Collections.singletonList(config.getMarkupLanguage()) : markupLanguages) {
+                Path markupDirectory = markupLanguages.isEmpty() ? outputDirectory : outputDirectory.resolve(markupLanguage.name().toLowerCase(Locale.ROOT));
+                for (Language outputLanguage : outputLanguages.isEmpty() ? Collections.singletonList(config.getOutputLanguage()) : outputLanguages) {
+                    Path targetDirectory = outputLanguages.isEmpty() ? markupDirectory : markupDirectory.resolve(outputLanguage.name().toLowerCase(Locale.ROOT));
+                    targets.put(targetDirectory, context.withConfig(OpenApi2MarkupConfigBuilder.copyOf(config, markupLanguage, outputLanguage)));
+                }
+            }
+
+            if (hasDocumentExtensions()) {
+                targets.forEach(this::toFolder);
+            } else {
+                joinAll(targets.entrySet().stream()
+                        .map(target -> CompletableFuture.runAsync(() -> toFolder(target.getKey(), target.getValue()), ForkJoinPool.commonPool()))
+                        .toArray(CompletableFuture<?>[]::new));
+            }
+        }
+
+        private void toFolder(Path outputDirectory, Context context) {
+            initDocumentExtensions(context);
+            new OpenApi2MarkupConverter(context).toFolder(outputDirectory);
+        }
+
+        private void prepare() {
+            if (openApi == null && openApiParser != null) {
+                if (parseCacheDirectory != null && openApiPath != null)
+                    openApi = new ParseCache(parseCacheDirectory).read(openApiPath, this instanceof BuilderV2 ? "swagger" : "openapi", openApiParser);
+                else
+                    openApi = openApiParser.get();
+            }
+
             if (config == null)
                 config = new OpenApi2MarkupConfigBuilder().build();
 
@@ -493,18 +766,21 @@ public class OpenApi2MarkupConverter {
 
             if (extensionRegistry == null)
                 extensionRegistry = new OpenApi2MarkupExtensionRegistryBuilder().build();
+        }
 
-            Context context = new Context(config, extensionRegistry, openApi, openApiLocation);
-
-            initExtensions(context);
-
-            applyOpenAPIExtensions(context);
-
-            return new OpenApi2MarkupConverter(context);
+        private boolean hasDocumentExtensions() {
+            return !extensionRegistry.getOverviewDocumentExtensions().isEmpty()
+                    || !extensionRegistry.getDefinitionsDocumentExtensions().isEmpty()
+                    || !extensionRegistry.getPathsDocumentExtensions().isEmpty()
+                    || !extensionRegistry.getSecurityDocumentExtensions().isEmpty();
         }
 
         private void initExtensions(Context context) {
             extensionRegistry.getOpenApiModelExtensions().forEach(extension -> extension.setGlobalContext(context));
+            initDocumentExtensions(context);
+        }
+
+        private void initDocumentExtensions(Context context) {
             extensionRegistry.getOverviewDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
             extensionRegistry.getDefinitionsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
             extensionRegistry.getPathsDocumentExtensions().forEach(extension -> extension.setGlobalContext(context));
@@ -522,17 +798,59 @@ public class OpenApi2MarkupConverter {
         private final URI openApiLocation;
         private final OpenApi2MarkupExtensionRegistry extensionRegistry;
         private final Labels labels;
+        private final Lazy<Map<String, Model>> componentModels;
+        private final Lazy<Map<String, Model>> componentModelsByName;
+        private final TypeResolutionCache typeResolutionCache = new TypeResolutionCache();
+        private final Lazy<MarkupDescriptions> markupDescriptions;
         private Path outputPath;
 
         public Context(OpenApi2MarkupConfig config,
                        OpenApi2MarkupExtensionRegistry extensionRegistry,
                        OpenAPI openApi,
                        URI openApiLocation) {
+            this(config, extensionRegistry, openApi, openApiLocation,
+                    source -> ModelUtils.toComponentModels(source, config.isModelViewsEnabled()));
+        }
+
+        /**
+         * @param componentModelsConverter converts the component schemas of the OpenAPI specification to models
+         */
+        Context(OpenApi2MarkupConfig config,
+                OpenApi2MarkupExtensionRegistry extensionRegistry,
+                OpenAPI openApi,
+                URI openApiLocation,
+                Function<OpenAPI, Map<String, Model>> componentModelsConverter) {
             this.config = config;
             this.extensionRegistry = extensionRegistry;
             this.openApi = openApi;
             this.openApiLocation = openApiLocation;
             this.labels = new Labels(config);
+            this.componentModels = Lazy.of(() -> Collections.unmodifiableMap(componentModelsConverter.apply(this.openApi)));
+            this.componentModelsByName = Lazy.of(() -> Collections.unmodifiableMap(getComponentModels().entrySet().stream()
+                    .collect(Collectors.toMap(e -> e.getKey().substring(ModelUtils.COMPONENT_SCHEMAS_REF_PREFIX.length()), Map.Entry::getValue))));
+            this.markupDescriptions = Lazy.of(this::convertMarkupDescriptions);
+        }
+
+        private Context(Context source, OpenApi2MarkupConfig config) {
+            this.config = config;
+            this.extensionRegistry = source.extensionRegistry;
+            this.openApi = source.openApi;
+            this.openApiLocation = source.openApiLocation;
+            this.labels = new Labels(config);
+            this.componentModels = source.componentModels;
+            this.componentModelsByName = source.componentModelsByName;
+            this.markupDescriptions = Lazy.of(this::convertMarkupDescriptions);
+        }
+
+        /**
+         * Creates a context for the same OpenAPI specification which renders with another configuration.
+         * The component models are shared with this context, so the configuration must convert them the same way.
+         *
+         * @param config the configuration of the new context
+         * @return the new context
+         */
+        Context withConfig(OpenApi2MarkupConfig config) {
+            return new Context(this, config);
         }
 
         public OpenApi2MarkupConfig getConfig() {
@@ -555,9 +873,52 @@ public class OpenApi2MarkupConverter {
             return labels;
         }
 
+        /**
+         * Returns the models of the component schemas, keyed by their reference (e.g. {@code #/components/schemas/Pet}).
+         * The schemas are converted once per conversion, on first use, and the returned map is shared by all components.
+         *
+         * @return an unmodifiable map of references and models
+         */
+        public Map<String, Model> getComponentModels() {
+            return componentModels.get();
+        }
+
+        /**
+         * Returns the same models as {@link #getComponentModels()}, keyed by their schema name (e.g. {@code Pet}).
+         *
+         * @return an unmodifiable map of schema names and models
+         */
+        public Map<String, Model> getComponentModelsByName() {
+            return componentModelsByName.get();
+        }
+
+        /**
+         * Returns the cache of the types resolved for {@code $ref} models during this conversion.
+         *
+         * @return the type resolution cache
+         */
+        public TypeResolutionCache getTypeResolutionCache() {
+            return typeResolutionCache;
+        }
+
+        /**
+         * Returns the descriptions of the OpenAPI specification converted to the output markup language.
+         * They are collected and converted in parallel on first use, so that rendering only looks them up.
+         *
+         * @return the converted descriptions
+         */
+        public MarkupDescriptions getMarkupDescriptions() {
+            return markupDescriptions.get();
+        }
+
+        private MarkupDescriptions convertMarkupDescriptions() {
+            return MarkupDescriptions.of(openApi, config.getOpenApiMarkupLanguage(), config.getMarkupLanguage(), createMarkupDocBuilder());
+        }
+
         public MarkupDocBuilder createMarkupDocBuilder() {
             return MarkupDocBuilders.documentBuilder(config.getMarkupLanguage(),
-                    config.getLineSeparator(), config.getAsciidocPegdownTimeoutMillis()).withAnchorPrefix(config.getAnchorPrefix());
+                    config.getLineSeparator(), config.getAsciidocPegdownTimeoutMillis()).withAnchorPrefix(config.getAnchorPrefix())
+                .withMarkdownToAsciiDocConverter(config.getMarkdownToAsciiDocConverter());
         }
 
         public Path getOutputPath() {
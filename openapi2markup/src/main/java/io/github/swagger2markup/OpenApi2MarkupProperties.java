@@ -15,6 +15,7 @@
  */
 package io.github.swagger2markup;
 
+import io.github.swagger2markup.markup.builder.MarkdownParser;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.utils.URIUtils;
 
@@ -70,11 +71,17 @@ public class OpenApi2MarkupProperties {
     public static final String LINE_SEPARATOR = PROPERTIES_PREFIX + ".lineSeparator";
     public static final String PAGE_BREAK_LOCATIONS = PROPERTIES_PREFIX + ".pageBreakLocations";
     public static final String ASCIIDOC_PEGDOWN_TIMEOUT = PROPERTIES_PREFIX + ".asciidoc.pegdown.timeoutMillis";
+    public static final String MARKDOWN_PARSER = PROPERTIES_PREFIX + ".markdownParser";
 
     public static final String OPENAPI_VERSION = PROPERTIES_PREFIX + ".openApiVersion";
     public static final String PRODUCES_CONSUMES_ENABLED = PROPERTIES_PREFIX + ".producesConsumesEnabled";
     public static final String TAGS_SECTION_ENABLED = PROPERTIES_PREFIX + ".tagsSectionEnabled";
     public static final String GENERATED_OPTIONAL_QUERY_PARAMETER_EXAMPLE_ENABLED = PROPERTIES_PREFIX + ".generatedOptionalQueryParameterExampleEnabled";
+    public static final String CONCURRENT_DOCUMENTS_ENABLED = PROPERTIES_PREFIX + ".concurrentDocumentsEnabled";
+    public static final String CONCURRENT_OPERATIONS_ENABLED = PROPERTIES_PREFIX + ".concurrentOperationsEnabled";
+    public static final String CONCURRENT_DEFINITIONS_ENABLED = PROPERTIES_PREFIX + ".concurrentDefinitionsEnabled";
+    public static final String MODEL_VIEWS_ENABLED = PROPERTIES_PREFIX + ".modelViewsEnabled";
+    public static final String STREAMING_OUTPUT_ENABLED = PROPERTIES_PREFIX + ".streamingOutputEnabled";
 
     /**
      * Prefix for OpenApi2Markup extension properties
@@ -329,6 +336,18 @@ public class OpenApi2MarkupProperties {
         return OrderBy.valueOf(configuration.getString(key));
     }
 
+    /**
+     * Return the MarkdownParser property value associated with the given key, or
+     * {@code defaultValue} if the key cannot be resolved.
+     *
+     * @param key the property name to resolve
+     * @return The MarkdownParser property
+     * @throws IllegalStateException if the value cannot be mapped to the enum
+     */
+    public MarkdownParser getMarkdownParser(String key) {
+        return MarkdownParser.valueOf(configuration.getString(key));
+    }
+
     /**
      * Return the String property value associated with the given key (never {@code null}).
      *
@@ -20,6 +20,8 @@ import com.google.common.collect.Ordering;
 
 import io.github.swagger2markup.*;
 import io.github.swagger2markup.markup.builder.LineSeparator;
+import io.github.swagger2markup.markup.builder.MarkdownParser;
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.model.PathOperation;
 import io.swagger.v3.oas.models.PathItem.HttpMethod;
@@ -32,6 +34,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -123,11 +126,17 @@ public class OpenApi2MarkupConfigBuilder {
         Configuration extensionsConfiguration = openApi2markupConfiguration.subset(EXTENSION_PREFIX);
         config.extensionsProperties = new OpenApi2MarkupProperties(extensionsConfiguration);
         config.asciidocPegdownTimeoutMillis = openApi2MarkupProperties.getRequiredInt(ASCIIDOC_PEGDOWN_TIMEOUT);
+        config.markdownParser = openApi2MarkupProperties.getMarkdownParser(MARKDOWN_PARSER);
 
         config.openApiVersion = openApi2MarkupProperties.getRequiredInt(OPENAPI_VERSION);
         config.producesConsumesEnabled = openApi2MarkupProperties.getRequiredBoolean(PRODUCES_CONSUMES_ENABLED);
         config.tagsSectionEnabled = openApi2MarkupProperties.getRequiredBoolean(TAGS_SECTION_ENABLED);
         config.generatedOptionalQueryParameterExampleEnabled = openApi2MarkupProperties.getRequiredBoolean(GENERATED_OPTIONAL_QUERY_PARAMETER_EXAMPLE_ENABLED);
+        config.concurrentDocumentsEnabled = openApi2MarkupProperties.getRequiredBoolean(CONCURRENT_DOCUMENTS_ENABLED);
+        config.concurrentOperationsEnabled = openApi2MarkupProperties.getRequiredBoolean(CONCURRENT_OPERATIONS_ENABLED);
+        config.concurrentDefinitionsEnabled = openApi2MarkupProperties.getRequiredBoolean(CONCURRENT_DEFINITIONS_ENABLED);
+        config.modelViewsEnabled = openApi2MarkupProperties.getRequiredBoolean(MODEL_VIEWS_ENABLED);
+        config.streamingOutputEnabled = openApi2MarkupProperties.getRequiredBoolean(STREAMING_OUTPUT_ENABLED);
     }
 
     /**
@@ -270,6 +279,30 @@ public class OpenApi2MarkupConfigBuilder {
         return this;
     }
 
+    /**
+     * Specifies the parser used to convert Markdown descriptions to AsciiDoc.
+     *
+     * @param markdownParser the MarkdownParser enum
+     * @return this builder
+     */
+    public OpenApi2MarkupConfigBuilder withMarkdownParser(MarkdownParser markdownParser) {
+        Validate.notNull(markdownParser, "%s must not be null", "markdownParser");
+        config.markdownParser = markdownParser;
+        return this;
+    }
+
+    /**
+     * Specifies a custom converter of Markdown descriptions to AsciiDoc, which takes precedence over the Markdown parser.
+     *
+     * @param markdownToAsciiDocConverter the custom converter, which must be thread-safe
+     * @return this builder
+     */
+    public OpenApi2MarkupConfigBuilder withMarkdownToAsciiDocConverter(MarkdownToAsciiDocConverter markdownToAsciiDocConverter) {
+        Validate.notNull(markdownToAsciiDocConverter, "%s must not be null", "markdownToAsciiDocConverter");
+        config.markdownToAsciiDocConverter = markdownToAsciiDocConverter;
+        return this;
+    }
+
     /**
      * Specifies the regex pattern to use for grouping paths.
      *
@@ -626,7 +659,96 @@ public class OpenApi2MarkupConfigBuilder {
       return this;
     }
 
-    static class DefaultOpenApi2MarkupConfig implements OpenApi2MarkupConfig {
+    /**
+     * Renders the overview, paths, definitions and security documents concurrently when converting to a folder.
+     * The documents are rendered on the common fork/join pool.
+     *
+     * @return this builder
+     */
+    public OpenApi2MarkupConfigBuilder withConcurrentDocuments() {
+        config.concurrentDocumentsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Renders the overview, paths, definitions and security documents concurrently when converting to a folder.
+     *
+     * @param documentExecutor the executor used to render the documents
+     * @return this builder
+     */
+    public OpenApi2MarkupConfigBuilder withConcurrentDocuments(Executor documentExecutor) {
+        Validate.notNull(documentExecutor, "%s must not be null", "documentExecutor");
+        config.concurrentDocumentsEnabled = true;
+        config.documentExecutor = documentExecutor;
+        return this;
+    }
+
+    /**
+     * Renders each path operation into its own fragment on the fork/join pool.
+     * The fragments are joined in the order given by the operation ordering and the paths grouping.
+     * The operations are rendered serially if paths document extensions are registered, as extensions share the
+     * global context and are not required to be thread-safe.
+     *
+     * @return this builder
+     */
+    public OpenApi2MarkupConfigBuilder withConcurrentOperations() {
+        config.concurrentOperationsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Renders each definition into its own fragment on the fork/join pool.
+     * The fragments are joined in the order given by the definition ordering.
+     * The definitions are rendered serially if definitions document extensions are registered, as extensions share the
+     * global context and are not required to be thread-safe.
+     *
+     * @return this builder
+     */
+    public OpenApi2MarkupConfigBuilder withConcurrentDefinitions() {
+        config.concurrentDefinitionsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Wraps the object and primitive component schemas in read-only model views instead of copying them into models.
+     *
+     * @return this builder
+     */
+    public OpenApi2MarkupConfigBuilder withModelViews() {
+        config.modelViewsEnabled = true;
+        return this;
+    }
+
+    /**
+     * Writes the documents directly to their files or output instead of buffering each document in memory first.
+     *
+     * @return this builder
+     */
+    public OpenApi2MarkupConfigBuilder withStreamingOutput() {
+        config.streamingOutputEnabled = true;
+        return this;
+    }
+
+    /**
+     * Creates a copy of a configuration built by this builder which generates the given markup and output language.
+     * All other settings are shared with the given configuration.
+     *
+     * @param config         a configuration built by an OpenApi2MarkupConfigBuilder
+     * @param markupLanguage the markup language of the copy
+     * @param outputLanguage the output language of the copy
+     * @return the copied configuration
+     */
+    public static OpenApi2MarkupConfig copyOf(OpenApi2MarkupConfig config, MarkupLanguage markupLanguage, Language outputLanguage) {
+        Validate.isInstanceOf(DefaultOpenApi2MarkupConfig.class, config, "config must be built by an OpenApi2MarkupConfigBuilder");
+        Validate.notNull(markupLanguage, "%s must not be null", "markupLanguage");
+        Validate.notNull(outputLanguage, "%s must not be null", "outputLanguage");
+        DefaultOpenApi2MarkupConfig copy = ((DefaultOpenApi2MarkupConfig) config).copy();
+        copy.markupLanguage = markupLanguage;
+        copy.outputLanguage = outputLanguage;
+        return copy;
+    }
+
+    static class DefaultOpenApi2MarkupConfig implements OpenApi2MarkupConfig, Cloneable {
 
         private MarkupLanguage markupLanguage;
         private MarkupLanguage swaggerMarkupLanguage;
@@ -666,6 +788,8 @@ public class OpenApi2MarkupConfigBuilder {
         private Character listDelimiter;
         private boolean listDelimiterEnabled;
         private int asciidocPegdownTimeoutMillis;
+        private MarkdownParser markdownParser;
+        private MarkdownToAsciiDocConverter markdownToAsciiDocConverter;
 
         private List<PageBreakLocations> pageBreakLocations;
 
@@ -677,8 +801,22 @@ public class OpenApi2MarkupConfigBuilder {
         private boolean producesConsumesEnabled;
         private boolean tagsSectionEnabled;
         private boolean generatedOptionalQueryParameterExampleEnabled;
+        private boolean concurrentDocumentsEnabled;
+        private Executor documentExecutor;
+        private boolean concurrentOperationsEnabled;
+        private boolean concurrentDefinitionsEnabled;
+        private boolean modelViewsEnabled;
+        private boolean streamingOutputEnabled;
         public Map<String, String> labelsOverride;
 
+        DefaultOpenApi2MarkupConfig copy() {
+            try {
+                return (DefaultOpenApi2MarkupConfig) super.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
         @Override
         public MarkupLanguage getMarkupLanguage() {
             return markupLanguage;
@@ -884,6 +1022,18 @@ public class OpenApi2MarkupConfigBuilder {
             return asciidocPegdownTimeoutMillis;
         }
 
+        @Override
+        public MarkdownParser getMarkdownParser() {
+            return markdownParser;
+        }
+
+        @Override
+        public MarkdownToAsciiDocConverter getMarkdownToAsciiDocConverter() {
+            if (markdownToAsciiDocConverter != null)
+                return markdownToAsciiDocConverter;
+            return markdownParser.converter(asciidocPegdownTimeoutMillis);
+        }
+
         @Override
         public int getOpenApiVersion() {
           return openApiVersion;
@@ -903,5 +1053,35 @@ public class OpenApi2MarkupConfigBuilder {
         public Map<String, String> getLabelsOverride() {
           return labelsOverride;
         }
+
+        @Override
+        public boolean isConcurrentDocumentsEnabled() {
+            return concurrentDocumentsEnabled;
+        }
+
+        @Override
+        public Executor getDocumentExecutor() {
+            return documentExecutor;
+        }
+
+        @Override
+        public boolean isConcurrentOperationsEnabled() {
+            return concurrentOperationsEnabled;
+        }
+
+        @Override
+        public boolean isConcurrentDefinitionsEnabled() {
+            return concurrentDefinitionsEnabled;
+        }
+
+        @Override
+        public boolean isModelViewsEnabled() {
+            return modelViewsEnabled;
+        }
+
+        @Override
+        public boolean isStreamingOutputEnabled() {
+            return streamingOutputEnabled;
+        }
     }
 }
\ No newline at end of file
@@ -53,6 +53,7 @@ import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.mark
 
 public class ParameterAdapter {
 
+    private final OpenApi2MarkupConverter.Context context;
     private final Parameter parameter;
     private final List<ObjectType> inlineDefinitions = new ArrayList<>();
     private final OpenApi2MarkupConfig config;
@@ -64,8 +65,9 @@ public class ParameterAdapter {
                             Parameter parameter,
                             DocumentResolver definitionDocumentResolver) {
         Validate.notNull(parameter, "parameter must not be null");
+        this.context = context;
         this.parameter = parameter;
-        type = getType(ModelUtils.getComponentModels(context), definitionDocumentResolver);
+        type = getType(context.getComponentModels(), definitionDocumentResolver);
         config = context.getConfig();
         if (config.isInlineSchemaEnabled()) {
             if (config.isFlatBodyEnabled()) {
@@ -118,7 +120,7 @@ public class ParameterAdapter {
     }
 
     public String displayDescription(MarkupDocBuilder markupDocBuilder) {
-        return markupDescription(config.getOpenApiMarkupLanguage(), markupDocBuilder, getDescription());
+        return markupDescription(context, markupDocBuilder, getDescription());
     }
 
     public String displayType(MarkupDocBuilder markupDocBuilder) {
@@ -197,8 +199,7 @@ public class ParameterAdapter {
               if (name == null) {
                 IOUtils.getNameFromDefinitionPath(refName);
               }
-              ObjectType innerType = new ObjectType(name, null);
-              innerType.setUniqueName(refName);
+              ObjectType innerType = new ObjectType(name, null).withUniqueName(refName);
               type = new RefType(definitionDocumentResolver.apply(refName), innerType);
             }
         }
@@ -165,9 +165,8 @@ public final class PropertyAdapter {
     public Type getType(DocumentResolver definitionDocumentResolver, Map<String, Model> definitions) {
       if (property.get$ref() != null) {
         Model referredTo = definitions.get(property.get$ref());
-        RefType retType = new RefType(definitionDocumentResolver.apply(property.get$ref()), new ObjectType(referredTo.getTitle(), referredTo.getProperties()));
-        retType.setUniqueName(property.get$ref());
-        return retType;
+        return new RefType(definitionDocumentResolver.apply(property.get$ref()), new ObjectType(referredTo.getTitle(), referredTo.getProperties()))
+            .withUniqueName(property.get$ref());
       }
       return getType(definitionDocumentResolver);
     }
@@ -190,8 +189,7 @@ public final class PropertyAdapter {
               name = IOUtils.getNameFromDefinitionPath(property.get$ref());
             }
             ObjectType innerType = new ObjectType(name, null);
-            type = new RefType(definitionDocumentResolver.apply(property.get$ref()), innerType);
-            type.setUniqueName(property.get$ref());
+            type = new RefType(definitionDocumentResolver.apply(property.get$ref()), innerType).withUniqueName(property.get$ref());
         } else if (property instanceof ArraySchema) {
             ArraySchema arrayProperty = (ArraySchema) property;
             Schema items = arrayProperty.getItems();
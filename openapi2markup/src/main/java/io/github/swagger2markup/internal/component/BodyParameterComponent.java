@@ -37,6 +37,7 @@ import org.apache.commons.lang3.Validate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.markupDescription;
@@ -77,7 +78,7 @@ public class BodyParameterComponent extends MarkupComponent<BodyParameterCompone
                         buildSectionTitle(markupDocBuilder, labels.getLabel(BODY_PARAMETER));
                         String description = parameter.getDescription();
                         if (isNotBlank(description)) {
-                            markupDocBuilder.paragraph(markupDescription(config.getOpenApiMarkupLanguage(), markupDocBuilder, description));
+                            markupDocBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
                         }
 
                         MarkupDocBuilder typeInfos = copyMarkupDocBuilder(markupDocBuilder);
@@ -104,12 +105,13 @@ public class BodyParameterComponent extends MarkupComponent<BodyParameterCompone
 
                             Validate.notNull(objectType, "Only ObjectType and RefType can have body properties"); // warning for other types
 
-                            ModelUtils.distributeRequired(objectType, parameterAdapter.getModel());
+                            Set<Schema> requiredProperties = ModelUtils.distributeRequired(objectType, parameterAdapter.getModel(), context.getComponentModels());
 
                             propertiesTableComponent.apply(markupDocBuilder, PropertiesTableComponent.parameters(
                                     objectType.getProperties(),
                                     operation.getId(),
-                                    localDefinitions
+                                    localDefinitions,
+                                    requiredProperties
                             ));
 
                             inlineDefinitions.addAll(localDefinitions);
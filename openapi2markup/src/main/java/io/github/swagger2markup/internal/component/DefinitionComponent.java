@@ -37,7 +37,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
+import java.util.Set;
 import static io.github.swagger2markup.Labels.POLYMORPHISM_COLUMN;
 import static io.github.swagger2markup.Labels.POLYMORPHISM_DISCRIMINATOR_COLUMN;
 import static io.github.swagger2markup.Labels.POLYMORPHISM_NATURE_COMPOSITION;
@@ -62,8 +62,7 @@ public class DefinitionComponent extends MarkupComponent<DefinitionComponent.Par
     public DefinitionComponent(OpenApi2MarkupConverter.Context context,
                                DocumentResolver definitionsDocumentResolver) {
         super(context);
-        this.definitions = ModelUtils.convertToModelMap(
-            Optional.ofNullable(context.getOpenApi().getComponents().getSchemas()).orElse(new HashMap<>()));
+        this.definitions = context.getComponentModelsByName();
         this.definitionsDocumentResolver = definitionsDocumentResolver;
         POLYMORPHISM_NATURE = new HashMap<ObjectTypePolymorphism.Nature, String>() {{
             put(ObjectTypePolymorphism.Nature.COMPOSITION, labels.getLabel(POLYMORPHISM_NATURE_COMPOSITION));
@@ -88,7 +87,7 @@ public class DefinitionComponent extends MarkupComponent<DefinitionComponent.Par
         applyDefinitionsDocumentExtension(new DefinitionsDocumentExtension.Context(Position.DEFINITION_BEGIN, markupDocBuilder, definitionName, model));
         String description = model.getDescription();
         if (isNotBlank(description)) {
-            markupDocBuilder.paragraph(markupDescription(config.getOpenApiMarkupLanguage(), markupDocBuilder, description));
+            markupDocBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
         }
         inlineDefinitions(markupDocBuilder, typeSection(markupDocBuilder, definitionName, model), definitionName);
         applyDefinitionsDocumentExtension(new DefinitionsDocumentExtension.Context(Position.DEFINITION_END, markupDocBuilder, definitionName, model));
@@ -180,11 +179,10 @@ public class DefinitionComponent extends MarkupComponent<DefinitionComponent.Par
                     break;
             }
 
-            String typeInfosString = typeInfos.toString();
-            if (isNotBlank(typeInfosString))
-                markupDocBuilder.paragraph(typeInfosString, true);
+            if (!typeInfos.isEmptyDocument())
+                markupDocBuilder.paragraph(typeInfos.toString(), true);
 
-            ModelUtils.distributeRequired((ObjectType) modelType, model);
+            Set<Schema> requiredProperties = ModelUtils.distributeRequired((ObjectType) modelType, model, context.getComponentModels());
 
             Map<String, Schema> properties = ((ObjectType) modelType).getProperties();
             if (!properties.isEmpty()) {
@@ -192,7 +190,8 @@ public class DefinitionComponent extends MarkupComponent<DefinitionComponent.Par
                         PropertiesTableComponent.parameters(
                                 properties,
                                 definitionName,
-                                inlineDefinitions));
+                                inlineDefinitions,
+                                requiredProperties));
             }
         } else if (modelType != null) {
             MarkupDocBuilder typeInfos = copyMarkupDocBuilder(markupDocBuilder);
@@ -16,7 +16,6 @@
 package io.github.swagger2markup.internal.component;
 
 
-import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.OpenApi2MarkupConverter;
 import io.github.swagger2markup.internal.adapter.ParameterAdapter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
@@ -34,10 +33,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static ch.netzwerg.paleo.ColumnIds.StringColumnId;
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
-import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 public class ParameterTableComponent extends MarkupComponent<ParameterTableComponent.Parameters> {
 
@@ -75,19 +72,12 @@ public class ParameterTableComponent extends MarkupComponent<ParameterTableCompo
         MarkupDocBuilder parametersBuilder = copyMarkupDocBuilder(markupDocBuilder);
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_PARAMETERS_BEGIN, parametersBuilder, operation));
         if (CollectionUtils.isNotEmpty(filteredParameters)) {
-            StringColumn.Builder typeColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(TYPE_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "2");
-            StringColumn.Builder nameColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(NAME_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "3");
-            StringColumn.Builder descriptionColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(DESCRIPTION_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "9")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
-            StringColumn.Builder schemaColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(SCHEMA_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "4")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
-            StringColumn.Builder defaultColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(DEFAULT_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "2")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
+            TableComponent.Parameters table = TableComponent.parameters(
+                    TableComponent.column(labels.getLabel(TYPE_COLUMN), 2, false),
+                    TableComponent.column(labels.getLabel(NAME_COLUMN), 3, false),
+                    TableComponent.column(labels.getLabel(DESCRIPTION_COLUMN), 9, true),
+                    TableComponent.column(labels.getLabel(SCHEMA_COLUMN), 4, true),
+                    TableComponent.column(labels.getLabel(DEFAULT_COLUMN), 2, true));
 
             for (Parameter parameter : filteredParameters) {
                 ParameterAdapter parameterAdapter = new ParameterAdapter(context,
@@ -95,27 +85,21 @@ public class ParameterTableComponent extends MarkupComponent<ParameterTableCompo
 
                 inlineDefinitions.addAll(parameterAdapter.getInlineDefinitions());
 
-                typeColumnBuilder.add(parameterAdapter.displayType(markupDocBuilder));
-                nameColumnBuilder.add(getParameterNameColumnContent(markupDocBuilder, parameterAdapter));
-                descriptionColumnBuilder.add(buildDescriptionForParameter(markupDocBuilder, parameterAdapter));
-                schemaColumnBuilder.add(parameterAdapter.displaySchema(markupDocBuilder));
-                defaultColumnBuilder.add(parameterAdapter.displayDefaultValue(markupDocBuilder));
+                table.addRow(parameterAdapter.displayType(markupDocBuilder),
+                        getParameterNameColumnContent(markupDocBuilder, parameterAdapter),
+                        buildDescriptionForParameter(markupDocBuilder, parameterAdapter),
+                        parameterAdapter.displaySchema(markupDocBuilder),
+                        parameterAdapter.displayDefaultValue(markupDocBuilder));
             }
 
-            parametersBuilder = tableComponent.apply(parametersBuilder, TableComponent.parameters(
-                    typeColumnBuilder.build(),
-                    nameColumnBuilder.build(),
-                    descriptionColumnBuilder.build(),
-                    schemaColumnBuilder.build(),
-                    defaultColumnBuilder.build()));
+            parametersBuilder = tableComponent.apply(parametersBuilder, table);
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_PARAMETERS_END, parametersBuilder, operation));
-        String parametersContent = parametersBuilder.toString();
 
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_PARAMETERS_BEFORE, markupDocBuilder, operation));
-        if (isNotBlank(parametersContent)) {
+        if (!parametersBuilder.isEmptyDocument()) {
             markupDocBuilder.sectionTitleLevel(params.titleLevel, labels.getLabel(PARAMETERS));
-            markupDocBuilder.text(parametersContent);
+            markupDocBuilder.appendFragment(parametersBuilder);
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_PARAMETERS_AFTER, markupDocBuilder, operation));
 
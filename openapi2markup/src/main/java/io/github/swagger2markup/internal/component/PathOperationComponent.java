@@ -25,7 +25,6 @@ import io.github.swagger2markup.OpenApi2MarkupConverter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
 import io.github.swagger2markup.internal.type.ObjectType;
 import io.github.swagger2markup.internal.utils.ExamplesUtil;
-import io.github.swagger2markup.internal.utils.ModelUtils;
 import io.github.swagger2markup.markup.builder.MarkupAdmonition;
 import io.github.swagger2markup.markup.builder.MarkupBlockStyle;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
@@ -66,7 +65,7 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
                                   DocumentResolver definitionDocumentResolver,
                                   DocumentResolver securityDocumentResolver) {
         super(context);
-        this.definitions = ModelUtils.getComponentModels(context);
+        this.definitions = context.getComponentModels();
         this.definitionDocumentResolver = Validate.notNull(definitionDocumentResolver, "DocumentResolver must not be null");
         this.propertiesTableComponent = new PropertiesTableComponent(context, definitionDocumentResolver);
         this.parameterTableComponent = new ParameterTableComponent(context, definitionDocumentResolver);
@@ -177,15 +176,14 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(Position.OPERATION_DESCRIPTION_BEGIN, descriptionBuilder, operation));
         String description = operation.getOperation().getDescription();
         if (isNotBlank(description)) {
-            descriptionBuilder.paragraph(markupDescription(config.getOpenApiMarkupLanguage(), markupDocBuilder, description));
+            descriptionBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(Position.OPERATION_DESCRIPTION_END, descriptionBuilder, operation));
-        String descriptionContent = descriptionBuilder.toString();
 
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(Position.OPERATION_DESCRIPTION_BEFORE, markupDocBuilder, operation));
-        if (isNotBlank(descriptionContent)) {
+        if (!descriptionBuilder.isEmptyDocument()) {
             buildSectionTitle(markupDocBuilder, labels.getLabel(DESCRIPTION));
-            markupDocBuilder.text(descriptionContent);
+            markupDocBuilder.appendFragment(descriptionBuilder);
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(Position.OPERATION_DESCRIPTION_AFTER, markupDocBuilder, operation));
     }
@@ -311,6 +309,7 @@ public class PathOperationComponent extends MarkupComponent<PathOperationCompone
             if (CollectionUtils.isNotEmpty(tags)) {
                 buildSectionTitle(markupDocBuilder, labels.getLabel(TAGS));
                 if (config.getTagOrdering() != null) {
+                    tags = new ArrayList<>(tags);
                     tags.sort(config.getTagOrdering());
                 }
                 markupDocBuilder.unorderedList(tags);
@@ -15,16 +15,14 @@
  */
 package io.github.swagger2markup.internal.component;
 
-import ch.netzwerg.paleo.ColumnIds;
-import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.OpenApi2MarkupConverter;
 import io.github.swagger2markup.internal.adapter.PropertyAdapter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
 import io.github.swagger2markup.internal.type.ObjectType;
 import io.github.swagger2markup.internal.type.RefType;
 import io.github.swagger2markup.internal.type.Type;
-import io.github.swagger2markup.internal.utils.ModelUtils;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.markup.builder.MarkupTableColumn;
 import io.github.swagger2markup.model.Model;
 import io.github.swagger2markup.spi.MarkupComponent;
 import io.swagger.v3.core.util.Json;
@@ -36,9 +34,11 @@ import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.InlineSchemaUtils.createInlineType;
@@ -65,7 +65,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
         super(context);
         this.definitionDocumentResolver = definitionDocumentResolver;
         this.tableComponent = new TableComponent(context);
-        this.definitions = ModelUtils.getComponentModels(context);
+        this.definitions = context.getComponentModels();
     }
 
     public static PropertiesTableComponent.Parameters parameters(Map<String, Schema> properties,
@@ -74,23 +74,32 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
         return new PropertiesTableComponent.Parameters(properties, parameterName, inlineDefinitions);
     }
 
+    public static PropertiesTableComponent.Parameters parameters(Map<String, Schema> properties,
+      String parameterName,
+      List<ObjectType> inlineDefinitions,
+      Set<Schema> requiredProperties) {
+        return new PropertiesTableComponent.Parameters(properties, parameterName, inlineDefinitions, requiredProperties);
+    }
+
     @Override
     public MarkupDocBuilder apply(MarkupDocBuilder markupDocBuilder, Parameters params) {
         //TODO: This method is too complex, split it up in smaller methods to increase readability
-        StringColumn.Builder nameColumnBuilder = StringColumn.builder(ColumnIds.StringColumnId.of(labels.getLabel(NAME_COLUMN)))
-          .putMetaData(TableComponent.WIDTH_RATIO, "3");
-
-        StringColumn.Builder descriptionColumnBuilder = StringColumn.builder(ColumnIds.StringColumnId.of(labels.getLabel(DESCRIPTION_COLUMN)))
-          .putMetaData(TableComponent.WIDTH_RATIO, "11")
-          .putMetaData(TableComponent.HEADER_COLUMN, "true");
-
-        StringColumn.Builder schemaColumnBuilder = StringColumn.builder(ColumnIds.StringColumnId.of(labels.getLabel(SCHEMA_COLUMN)))
-          .putMetaData(TableComponent.WIDTH_RATIO, "4")
-          .putMetaData(TableComponent.HEADER_COLUMN, "true");
+        MarkupTableColumn[] columns = {
+          TableComponent.column(labels.getLabel(NAME_COLUMN), 3, false),
+          TableComponent.column(labels.getLabel(DESCRIPTION_COLUMN), 11, true),
+          TableComponent.column(labels.getLabel(SCHEMA_COLUMN), 4, true)};
 
         Map<String, Schema> properties = params.properties;
-        if (MapUtils.isNotEmpty(properties)) {
-            Map<String, Schema> sortedProperties = toSortedMap(properties, config.getPropertyOrdering());
+        Map<String, Schema> sortedProperties = MapUtils.isNotEmpty(properties)
+          ? toSortedMap(properties, config.getPropertyOrdering()) : Collections.emptyMap();
+
+        // The rows are written as they are rendered, which requires to find the blank columns first
+        boolean[] notBlankColumns = {
+          !sortedProperties.isEmpty(),
+          sortedProperties.values().stream().anyMatch(property -> hasDescription(markupDocBuilder, property)),
+          sortedProperties.values().stream().anyMatch(property -> hasSchema(markupDocBuilder, property))};
+        TableComponent.TableWriter table = tableComponent.beginTable(markupDocBuilder, columns, notBlankColumns);
+        if (!sortedProperties.isEmpty()) {
             sortedProperties.forEach((String propertyName, Schema property) -> {
                 PropertyAdapter propertyAdapter = new PropertyAdapter(property);
                 Type propertyType = propertyAdapter.getType(definitionDocumentResolver, definitions);
@@ -112,7 +121,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
 
                 MarkupDocBuilder propertyNameContent = copyMarkupDocBuilder(markupDocBuilder);
                 propertyNameContent.boldTextLine(propertyName, true);
-                if (Optional.ofNullable(property.getRequired()).isPresent())
+                if (Optional.ofNullable(property.getRequired()).isPresent() || params.requiredProperties.contains(property))
                     propertyNameContent.italicText(labels.getLabel(FLAGS_REQUIRED).toLowerCase());
                 else
                     propertyNameContent.italicText(labels.getLabel(FLAGS_OPTIONAL).toLowerCase());
@@ -122,12 +131,12 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                 }
 
                 MarkupDocBuilder descriptionContent = copyMarkupDocBuilder(markupDocBuilder);
-                String description = markupDescription(config.getOpenApiMarkupLanguage(), markupDocBuilder, propertyAdapter.getDescription(definitions));
+                String description = markupDescription(context, markupDocBuilder, propertyAdapter.getDescription(definitions));
                 if (isNotBlank(description))
                     descriptionContent.text(description);
 
                 if (optionalDefaultValue.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
+                    if (!descriptionContent.isEmptyDocument()) {
                         descriptionContent.newLine(true);
                     }
                     descriptionContent.boldText(labels.getLabel(DEFAULT_COLUMN)).text(COLON).literalText(Json.pretty(optionalDefaultValue.get()));
@@ -138,7 +147,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                     Integer minLength = optionalMinLength.get();
                     Integer maxLength = optionalMaxLength.get();
 
-                    if (isNotBlank(descriptionContent.toString())) {
+                    if (!descriptionContent.isEmptyDocument()) {
                         descriptionContent.newLine(true);
                     }
 
@@ -151,14 +160,14 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
 
                 } else {
                     if (optionalMinLength.isPresent()) {
-                        if (isNotBlank(descriptionContent.toString())) {
+                        if (!descriptionContent.isEmptyDocument()) {
                             descriptionContent.newLine(true);
                         }
                         descriptionContent.boldText(labels.getLabel(MINLENGTH_COLUMN)).text(COLON).literalText(optionalMinLength.get().toString());
                     }
 
                     if (optionalMaxLength.isPresent()) {
-                        if (isNotBlank(descriptionContent.toString())) {
+                        if (!descriptionContent.isEmptyDocument()) {
                             descriptionContent.newLine(true);
                         }
                         descriptionContent.boldText(labels.getLabel(MAXLENGTH_COLUMN)).text(COLON).literalText(optionalMaxLength.get().toString());
@@ -166,7 +175,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                 }
 
                 if (optionalPattern.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
+                    if (!descriptionContent.isEmptyDocument()) {
                         descriptionContent.newLine(true);
                     }
                     descriptionContent.boldText(labels.getLabel(PATTERN_COLUMN)).text(COLON).literalText(Json.pretty(optionalPattern.get()));
@@ -176,7 +185,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                   DecimalFormatSymbols.getInstance(config.getOutputLanguage().toLocale()));
 
                 if (optionalMinValue.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
+                    if (!descriptionContent.isEmptyDocument()) {
                         descriptionContent.newLine(true);
                     }
                     String minValueColumn = exclusiveMin ? labels.getLabel(MINVALUE_EXCLUSIVE_COLUMN) : labels.getLabel(MINVALUE_COLUMN);
@@ -184,7 +193,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                 }
 
                 if (optionalMaxValue.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
+                    if (!descriptionContent.isEmptyDocument()) {
                         descriptionContent.newLine(true);
                     }
                     String maxValueColumn = exclusiveMax ? labels.getLabel(MAXVALUE_EXCLUSIVE_COLUMN) : labels.getLabel(MAXVALUE_COLUMN);
@@ -192,7 +201,7 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                 }
 
                 if (optionalExample.isPresent()) {
-                    if (isNotBlank(descriptionContent.toString())) {
+                    if (!descriptionContent.isEmptyDocument()) {
                         descriptionContent.newLine(true);
                     }
 
@@ -207,16 +216,36 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
                     }
                 }
 
-                nameColumnBuilder.add(propertyNameContent.toString());
-                descriptionColumnBuilder.add(descriptionContent.toString());
-                schemaColumnBuilder.add(propertyType.displaySchema(markupDocBuilder));
+                table.addRow(propertyNameContent.toString(),
+                  descriptionContent.toString(),
+                  propertyType.displaySchema(markupDocBuilder));
             });
         }
 
-        return tableComponent.apply(markupDocBuilder, TableComponent.parameters(
-          nameColumnBuilder.build(),
-          descriptionColumnBuilder.build(),
-          schemaColumnBuilder.build()));
+        return table.end();
+    }
+
+    /**
+     * Tells, without rendering it, if the description cell of a property is not blank.
+     * The checks are ordered by cost, as the first property with a description ends the search.
+     */
+    private boolean hasDescription(MarkupDocBuilder markupDocBuilder, Schema property) {
+        PropertyAdapter propertyAdapter = new PropertyAdapter(property);
+        return propertyAdapter.getDefaultValue().isPresent()
+          || propertyAdapter.getMinlength().isPresent()
+          || propertyAdapter.getMaxlength().isPresent()
+          || propertyAdapter.getPattern().isPresent()
+          || propertyAdapter.getMin().isPresent()
+          || propertyAdapter.getMax().isPresent()
+          || isNotBlank(markupDescription(context, markupDocBuilder, propertyAdapter.getDescription(definitions)))
+          || propertyAdapter.getExample(config.isGeneratedExamplesEnabled(), markupDocBuilder, definitions).isPresent();
+    }
+
+    /**
+     * Tells if the schema cell of a property is not blank. Inlining a type does not change it.
+     */
+    private boolean hasSchema(MarkupDocBuilder markupDocBuilder, Schema property) {
+        return isNotBlank(new PropertyAdapter(property).getType(definitionDocumentResolver, definitions).displaySchema(markupDocBuilder));
     }
 
     /*
@@ -233,14 +262,26 @@ public class PropertiesTableComponent extends MarkupComponent<PropertiesTableCom
         private final Map<String, Schema> properties;
         private final String parameterName;
         private final List<ObjectType> inlineDefinitions;
+        private final Set<Schema> requiredProperties;
 
         public Parameters(Map<String, Schema> properties,
           String parameterName,
           List<ObjectType> inlineDefinitions) {
+            this(properties, parameterName, inlineDefinitions, Collections.emptySet());
+        }
+
+        /**
+         * @param requiredProperties the property schemas the model of the table lists as required, compared by identity
+         */
+        public Parameters(Map<String, Schema> properties,
+          String parameterName,
+          List<ObjectType> inlineDefinitions,
+          Set<Schema> requiredProperties) {
 
             this.properties = Validate.notNull(properties, "Properties must not be null");
             this.parameterName = Validate.notBlank(parameterName, "ParameterName must not be blank");
             this.inlineDefinitions = Validate.notNull(inlineDefinitions, "InlineDefinitions must not be null");
+            this.requiredProperties = Validate.notNull(requiredProperties, "RequiredProperties must not be null");
         }
     }
 }
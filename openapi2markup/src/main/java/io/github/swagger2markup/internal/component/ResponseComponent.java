@@ -16,7 +16,6 @@
 package io.github.swagger2markup.internal.component;
 
 
-import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.OpenApi2MarkupConverter;
 import io.github.swagger2markup.internal.adapter.PropertyAdapter;
 import io.github.swagger2markup.internal.resolver.DocumentResolver;
@@ -31,18 +30,17 @@ import io.github.swagger2markup.spi.MarkupComponent;
 import io.github.swagger2markup.spi.PathsDocumentExtension;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.headers.Header;
-import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.Validate;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 
-import static ch.netzwerg.paleo.ColumnIds.StringColumnId;
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.InlineSchemaUtils.createInlineType;
 import static io.github.swagger2markup.internal.utils.MapUtils.toSortedMap;
@@ -51,6 +49,11 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 public class ResponseComponent extends MarkupComponent<ResponseComponent.Parameters> {
 
+    /**
+     * Rendered in place of a missing response content, the response itself is left untouched
+     */
+    private static final Map<String, MediaType> EMPTY_CONTENT = Collections.singletonMap("application/json", new MediaType());
+
     private final TableComponent tableComponent;
     private final Map<String, Model> definitions;
     private final DocumentResolver definitionDocumentResolver;
@@ -58,7 +61,7 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
     ResponseComponent(OpenApi2MarkupConverter.Context context,
                       DocumentResolver definitionDocumentResolver) {
         super(context);
-        this.definitions = ModelUtils.getComponentModels(context);
+        this.definitions = context.getComponentModels();
         this.definitionDocumentResolver = Validate.notNull(definitionDocumentResolver, "DocumentResolver must not be null");
         this.tableComponent = new TableComponent(context);
     }
@@ -77,24 +80,19 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
         MarkupDocBuilder responsesBuilder = copyMarkupDocBuilder(markupDocBuilder);
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_RESPONSES_BEGIN, responsesBuilder, operation));
         if (MapUtils.isNotEmpty(responses)) {
-            StringColumn.Builder httpCodeColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(HTTP_CODE_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "2");
-            StringColumn.Builder descriptionColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(DESCRIPTION_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "10")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
-            StringColumn.Builder mediaColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(MEDIA_TYPE_COLUMN)))
-                .putMetaData(TableComponent.WIDTH_RATIO, "4")
-                .putMetaData(TableComponent.HEADER_COLUMN, "true");
-            StringColumn.Builder schemaColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(SCHEMA_COLUMN)))
-                    .putMetaData(TableComponent.WIDTH_RATIO, "4")
-                    .putMetaData(TableComponent.HEADER_COLUMN, "true");
+            TableComponent.Parameters table = TableComponent.parameters(
+                    TableComponent.column(labels.getLabel(HTTP_CODE_COLUMN), 2, false),
+                    TableComponent.column(labels.getLabel(DESCRIPTION_COLUMN), 10, true),
+                    TableComponent.column(labels.getLabel(MEDIA_TYPE_COLUMN), 4, true),
+                    TableComponent.column(labels.getLabel(SCHEMA_COLUMN), 4, true));
 
             Map<String, ApiResponse> sortedResponses = toSortedMap(responses, config.getResponseOrdering());
             sortedResponses.forEach((String responseName, ApiResponse response) -> {
-              if (response.getContent() == null || response.getContent().isEmpty()) {
-                response.setContent(createEmptyContent());
+              Map<String, MediaType> content = response.getContent();
+              if (content == null || content.isEmpty()) {
+                content = EMPTY_CONTENT;
               }
-              for (Entry<String, MediaType> mType : response.getContent().entrySet()) {
+              for (Entry<String, MediaType> mType : content.entrySet()) {
                 String schemaContent = labels.getLabel(NO_CONTENT);
 
                 Model model = ModelUtils.convertToModel(mType.getValue().getSchema());
@@ -115,7 +113,7 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
 
                 MarkupDocBuilder descriptionBuilder = copyMarkupDocBuilder(markupDocBuilder);
 
-                descriptionBuilder.text(markupDescription(config.getOpenApiMarkupLanguage(), markupDocBuilder, response.getDescription()));
+                descriptionBuilder.text(markupDescription(context, markupDocBuilder, response.getDescription()));
 
                 Map<String, Header> headers = response.getHeaders();
                 if (MapUtils.isNotEmpty(headers)) {
@@ -125,7 +123,7 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
                         Header headerProperty = header.getValue();
                         PropertyAdapter headerPropertyAdapter = new PropertyAdapter(headerProperty.getSchema());
                         Type propertyType = headerPropertyAdapter.getType(definitionDocumentResolver);
-                        String headerDescription = markupDescription(config.getOpenApiMarkupLanguage(), markupDocBuilder, headerProperty.getDescription());
+                        String headerDescription = markupDescription(context, markupDocBuilder, headerProperty.getDescription());
                         Optional<Object> optionalDefaultValue = headerPropertyAdapter.getDefaultValue();
 
                         descriptionBuilder
@@ -147,36 +145,26 @@ public class ResponseComponent extends MarkupComponent<ResponseComponent.Paramet
                     }
                 }
 
-                httpCodeColumnBuilder.add(boldText(markupDocBuilder, responseName));
-                descriptionColumnBuilder.add(descriptionBuilder.toString());
-                mediaColumnBuilder.add(mType.getKey());
-                schemaColumnBuilder.add(schemaContent);
+                table.addRow(boldText(markupDocBuilder, responseName),
+                        descriptionBuilder.toString(),
+                        mType.getKey(),
+                        schemaContent);
               }
             });
 
-            responsesBuilder = tableComponent.apply(responsesBuilder, TableComponent.parameters(httpCodeColumnBuilder.build(),
-                    descriptionColumnBuilder.build(),
-                    mediaColumnBuilder.build(),
-                    schemaColumnBuilder.build()));
+            responsesBuilder = tableComponent.apply(responsesBuilder, table);
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_RESPONSES_END, responsesBuilder, operation));
-        String responsesContent = responsesBuilder.toString();
 
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_RESPONSES_BEFORE, markupDocBuilder, operation));
-        if (isNotBlank(responsesContent)) {
+        if (!responsesBuilder.isEmptyDocument()) {
             markupDocBuilder.sectionTitleLevel(params.titleLevel, labels.getLabel(RESPONSES));
-            markupDocBuilder.text(responsesContent);
+            markupDocBuilder.appendFragment(responsesBuilder);
         }
         applyPathsDocumentExtension(new PathsDocumentExtension.Context(PathsDocumentExtension.Position.OPERATION_RESPONSES_AFTER, markupDocBuilder, operation));
         return markupDocBuilder;
     }
 
-    private Content createEmptyContent() {
-      Content emptyContent = new Content();
-      emptyContent.addMediaType("application/json", new MediaType());
-      return emptyContent;
-    }
-
     /**
      * Apply extension context to all OperationsContentExtension.
      *
@@ -16,7 +16,6 @@
 package io.github.swagger2markup.internal.component;
 
 
-import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.OpenApi2MarkupConverter;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.spi.MarkupComponent;
@@ -30,7 +29,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static ch.netzwerg.paleo.ColumnIds.StringColumnId;
 import static io.github.swagger2markup.Labels.*;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.markupDescription;
@@ -61,7 +59,7 @@ public class SecuritySchemeDefinitionComponent extends MarkupComponent<SecurityS
         applySecurityDocumentExtension(new SecurityDocumentExtension.Context(Position.SECURITY_SCHEME_BEGIN, markupDocBuilder, securitySchemeDefinitionName, securitySchemeDefinition));
         String description = securitySchemeDefinition.getDescription();
         if (isNotBlank(description)) {
-            markupDocBuilder.paragraph(markupDescription(config.getOpenApiMarkupLanguage(), markupDocBuilder, description));
+            markupDocBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
         }
         buildSecurityScheme(markupDocBuilder, securitySchemeDefinition);
         applySecurityDocumentExtension(new SecurityDocumentExtension.Context(Position.SECURITY_SCHEME_END, markupDocBuilder, securitySchemeDefinitionName, securitySchemeDefinition));
@@ -75,52 +73,47 @@ public class SecuritySchemeDefinitionComponent extends MarkupComponent<SecurityS
 
         paragraphBuilder.italicText(labels.getLabel(TYPE)).textLine(COLON + type);
 
-        switch (type) {
-          case APIKEY:
-            paragraphBuilder.italicText(labels.getLabel(NAME)).textLine(COLON + securityScheme.getName());
-            paragraphBuilder.italicText(labels.getLabel(IN)).textLine(COLON + securityScheme.getIn());
+        switch (type) {
+          case APIKEY:
+            paragraphBuilder.italicText(labels.getLabel(NAME)).textLine(COLON + securityScheme.getName());
+            paragraphBuilder.italicText(labels.getLabel(IN)).textLine(COLON + securityScheme.getIn());
             return markupDocBuilder.paragraph(paragraphBuilder.toString(), true);
-
-          case OAUTH2:
-            OAuthFlows flows = securityScheme.getFlows();
-            List<OAuthFlow> present = new ArrayList<>();
-            if (flows.getAuthorizationCode() != null) {present.add(flows.getAuthorizationCode());}
-            if (flows.getClientCredentials() != null) {present.add(flows.getClientCredentials());}
-            if (flows.getImplicit() != null) {present.add(flows.getImplicit());}
-            if (flows.getPassword() != null) {present.add(flows.getPassword());}
-
-
-            for (OAuthFlow flow : present) {
+
+          case OAUTH2:
+            OAuthFlows flows = securityScheme.getFlows();
+            List<OAuthFlow> present = new ArrayList<>();
+            if (flows.getAuthorizationCode() != null) {present.add(flows.getAuthorizationCode());}
+            if (flows.getClientCredentials() != null) {present.add(flows.getClientCredentials());}
+            if (flows.getImplicit() != null) {present.add(flows.getImplicit());}
+            if (flows.getPassword() != null) {present.add(flows.getPassword());}
+
+
+            for (OAuthFlow flow : present) {
             paragraphBuilder.italicText(labels.getLabel(FLOW)).textLine(COLON + flow);
-              if (isNotBlank(flow.getAuthorizationUrl())) {
-                  paragraphBuilder.italicText(labels.getLabel(AUTHORIZATION_URL)).textLine(COLON + flow.getAuthorizationUrl());
+              if (isNotBlank(flow.getAuthorizationUrl())) {
+                  paragraphBuilder.italicText(labels.getLabel(AUTHORIZATION_URL)).textLine(COLON + flow.getAuthorizationUrl());
             }
-              if (isNotBlank(flow.getTokenUrl())) {
-                  paragraphBuilder.italicText(labels.getLabel(TOKEN_URL)).textLine(COLON + flow.getTokenUrl());
+              if (isNotBlank(flow.getTokenUrl())) {
+                  paragraphBuilder.italicText(labels.getLabel(TOKEN_URL)).textLine(COLON + flow.getTokenUrl());
             }
 
             markupDocBuilder.paragraph(paragraphBuilder.toString(), true);
 
-              if (flow.getScopes() != null && !flow.getScopes().isEmpty()) {
-                StringColumn.Builder nameColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(NAME_COLUMN)))
-                        .putMetaData(TableComponent.WIDTH_RATIO, "3")
-                        .putMetaData(TableComponent.HEADER_COLUMN, "true");
-                StringColumn.Builder descriptionColumnBuilder = StringColumn.builder(StringColumnId.of(labels.getLabel(DESCRIPTION_COLUMN)))
-                        .putMetaData(TableComponent.WIDTH_RATIO, "17")
-                        .putMetaData(TableComponent.HEADER_COLUMN, "true");
-
-                  for (Map.Entry<String, String> scope : flow.getScopes().entrySet()) {
-                    nameColumnBuilder.add(scope.getKey());
-                    descriptionColumnBuilder.add(scope.getValue());
+              if (flow.getScopes() != null && !flow.getScopes().isEmpty()) {
+                TableComponent.Parameters table = TableComponent.parameters(
+                        TableComponent.column(labels.getLabel(NAME_COLUMN), 3, true),
+                        TableComponent.column(labels.getLabel(DESCRIPTION_COLUMN), 17, true));
+
+                  for (Map.Entry<String, String> scope : flow.getScopes().entrySet()) {
+                    table.addRow(scope.getKey(), scope.getValue());
                 }
 
-                return tableComponent.apply(markupDocBuilder, TableComponent.parameters(nameColumnBuilder.build(),
-                        descriptionColumnBuilder.build()));
+                return tableComponent.apply(markupDocBuilder, table);
+            }
             }
-            }
-            return markupDocBuilder;
+            return markupDocBuilder;
 
-          default:
+          default:
             return markupDocBuilder.paragraph(paragraphBuilder.toString(), true);
         }
     }
@@ -15,62 +15,165 @@
  */
 package io.github.swagger2markup.internal.component;
 
-import ch.netzwerg.paleo.DataFrame;
-import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.OpenApi2MarkupConverter;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import io.github.swagger2markup.markup.builder.MarkupTableColumn;
 import io.github.swagger2markup.spi.MarkupComponent;
-import io.vavr.collection.Array;
-import io.vavr.collection.IndexedSeq;
-import io.vavr.collection.List;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
 
-public class TableComponent extends MarkupComponent<TableComponent.Parameters> {
 
-    public static final String WIDTH_RATIO = "widthRatio";
-    public static final String HEADER_COLUMN = "headerColumn";
+public class TableComponent extends MarkupComponent<TableComponent.Parameters> {
 
     public TableComponent(OpenApi2MarkupConverter.Context context) {
         super(context);
     }
 
-    public static TableComponent.Parameters parameters(StringColumn... columns) {
+    /**
+     * Creates the parameters of a table with the given columns, whose rows are then added with {@link Parameters#addRow(String...)}.
+     *
+     * @param columns the columns of the table, of which the header, the width ratio and the header column flag are rendered
+     * @return the table parameters
+     */
+    public static TableComponent.Parameters parameters(MarkupTableColumn... columns) {
         return new TableComponent.Parameters(columns);
     }
 
-    public static boolean isNotBlank(StringColumn column) {
-        return !column.getValues().filter(StringUtils::isNotBlank).isEmpty();
+    /**
+     * Creates a table column.
+     *
+     * @param header       the header of the column
+     * @param widthRatio   the width ratio of the column
+     * @param headerColumn if the column is a header column
+     * @return the column
+     */
+    public static MarkupTableColumn column(String header, int widthRatio, boolean headerColumn) {
+        return new MarkupTableColumn(header, headerColumn, widthRatio);
+    }
+
+    /**
+     * Begins a table whose rows are written straight to the builder, so that the cells of a large table are not held
+     * in memory. As the header is written first, the columns containing a non blank cell must be known beforehand.
+     *
+     * @param markupDocBuilder the builder the table is written to
+     * @param columns          the columns of the table
+     * @param notBlankColumns  for each column, if any of its cells is not blank. The other columns are omitted.
+     * @return the writer of the rows of the table
+     */
+    public TableWriter beginTable(MarkupDocBuilder markupDocBuilder, MarkupTableColumn[] columns, boolean[] notBlankColumns) {
+        return new TableWriter(markupDocBuilder, columns, notBlankColumns);
     }
 
     @Override
     public MarkupDocBuilder apply(MarkupDocBuilder markupDocBuilder, Parameters params) {
-        DataFrame dataFrame = params.dataFrame;
-        java.util.List<MarkupTableColumn> columnSpecs = dataFrame.getColumns().map(column -> {
-                    Integer widthRatio = Integer.valueOf(column.getMetaData().get(WIDTH_RATIO).getOrElse("0"));
-                    return new MarkupTableColumn(column.getId().getName())
-                            .withWidthRatio(widthRatio)
-                            .withHeaderColumn(Boolean.parseBoolean(column.getMetaData().get(HEADER_COLUMN).getOrElse("false")))
-                            .withMarkupSpecifiers(MarkupLanguage.ASCIIDOC, ".^" + widthRatio + "a");
-                }
-        ).toJavaList();
+        TableWriter table = beginTable(markupDocBuilder, params.columns, params.notBlankColumns);
+        for (String[] row : params.rows) {
+            table.addRow(row);
+        }
+        return table.end();
+    }
 
-        IndexedSeq<IndexedSeq<String>> columnValues = dataFrame.getColumns()
-                .map(column -> ((StringColumn) column).getValues());
+    /**
+     * Writes the rows of a table begun by {@link #beginTable(MarkupDocBuilder, MarkupTableColumn[], boolean[])},
+     * omitting the cells of the blank columns.
+     */
+    public static class TableWriter {
+        private final MarkupDocBuilder markupDocBuilder;
+        private final int columnCount;
+        private final int[] columnIndexes;
+        private final String[] selectedCells;
+        private final List<String> selectedRow;
 
-        java.util.List<java.util.List<String>> cells = Array.range(0, dataFrame.getRowCount())
-                .map(rowNumber -> columnValues.map(values -> values.get(rowNumber)).toJavaList()).toJavaList();
+        private TableWriter(MarkupDocBuilder markupDocBuilder, MarkupTableColumn[] columns, boolean[] notBlankColumns) {
+            Validate.noNullElements(columns, "columns must not contain null");
+            Validate.isTrue(notBlankColumns.length == columns.length, "%d columns are flagged but the table has %d columns",
+                    notBlankColumns.length, columns.length);
+            this.markupDocBuilder = markupDocBuilder;
+            this.columnCount = columns.length;
+            this.columnIndexes = IntStream.range(0, columns.length).filter(i -> notBlankColumns[i]).toArray();
+            this.selectedCells = new String[columnIndexes.length];
+            this.selectedRow = Arrays.asList(selectedCells);
 
-        return markupDocBuilder.tableWithColumnSpecs(columnSpecs, cells);
+            // A table without columns has no rows either, it is written when it ends
+            if (columnIndexes.length > 0) {
+                List<MarkupTableColumn> columnSpecs = new ArrayList<>(columnIndexes.length);
+                for (int columnIndex : columnIndexes) {
+                    MarkupTableColumn column = columns[columnIndex];
+                    columnSpecs.add(new MarkupTableColumn(column.header, column.headerColumn, column.widthRatio)
+                            .withMarkupSpecifiers(MarkupLanguage.ASCIIDOC, ".^" + column.widthRatio + "a"));
+                }
+                markupDocBuilder.beginTable(columnSpecs);
+            }
+        }
+
+        /**
+         * Writes a row of the table.
+         *
+         * @param cells the cells of the row, one per column
+         * @return this writer
+         */
+        public TableWriter addRow(String... cells) {
+            Validate.isTrue(cells.length == columnCount, "row has %d cells but the table has %d columns", cells.length, columnCount);
+            if (columnIndexes.length == columnCount) {
+                markupDocBuilder.tableRow(Arrays.asList(cells));
+            } else if (columnIndexes.length > 0) {
+                for (int i = 0; i < columnIndexes.length; i++) {
+                    selectedCells[i] = cells[columnIndexes[i]];
+                }
+                markupDocBuilder.tableRow(selectedRow);
+            }
+            return this;
+        }
+
+        /**
+         * Ends the table.
+         *
+         * @return the builder the table is written to
+         */
+        public MarkupDocBuilder end() {
+            if (columnIndexes.length == 0) {
+                return markupDocBuilder.tableWithColumnSpecs(Collections.emptyList(), Collections.emptyList());
+            }
+            return markupDocBuilder.endTable();
+        }
     }
 
+    /**
+     * Row-major table model, for tables small enough to be buffered. The columns containing a non blank cell are
+     * tracked while the rows are added, so that blank columns are omitted without scanning the cells again.
+     */
     public static class Parameters {
-        private final DataFrame dataFrame;
+        private final MarkupTableColumn[] columns;
+        private final List<String[]> rows = new ArrayList<>();
+        private final boolean[] notBlankColumns;
+
+        public Parameters(MarkupTableColumn... columns) {
+            this.columns = Validate.noNullElements(columns, "columns must not contain null");
+            this.notBlankColumns = new boolean[columns.length];
+        }
 
-        public Parameters(StringColumn... columns) {
-            this.dataFrame = DataFrame.ofAll(List.of(columns).filter(TableComponent::isNotBlank));
+        /**
+         * Adds a row to the table.
+         *
+         * @param cells the cells of the row, one per column
+         * @return these parameters
+         */
+        public Parameters addRow(String... cells) {
+            Validate.isTrue(cells.length == columns.length, "row has %d cells but the table has %d columns", cells.length, columns.length);
+            for (int i = 0; i < cells.length; i++) {
+                if (!notBlankColumns[i] && StringUtils.isNotBlank(cells[i])) {
+                    notBlankColumns[i] = true;
+                }
+            }
+            rows.add(cells);
+            return this;
         }
     }
 }
@@ -31,6 +31,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static io.github.swagger2markup.internal.utils.MapUtils.toSortedMap;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
@@ -94,14 +95,31 @@ public class DefinitionsDocument extends MarkupComponent<DefinitionsDocument.Par
         markupDocBuilder.sectionTitleWithAnchorLevel1(title, DEFINITIONS_ANCHOR);
     }
 
+    /**
+     * Builds the definitions, concurrently if concurrent definitions are enabled and no definitions document extension
+     * is registered, as extensions share the global context and are not required to be thread-safe.
+     */
     private void buildDefinitionsSection(MarkupDocBuilder markupDocBuilder, Map<String, Model> definitions) {
         Map<String, Model> sortedMap = toSortedMap(definitions, config.getDefinitionOrdering());
-        sortedMap.forEach((String definitionName, Model model) -> {
-            if (isNotBlank(definitionName)
-                    && checkThatDefinitionIsNotInIgnoreList(definitionName)) {
-                buildDefinition(markupDocBuilder, definitionName, model);
-            }
-        });
+        if (config.isConcurrentDefinitionsEnabled() && extensionRegistry.getDefinitionsDocumentExtensions().isEmpty()) {
+            List<MarkupDocBuilder> definitionFragments = sortedMap.entrySet().parallelStream()
+                    .filter(definition -> isNotBlank(definition.getKey())
+                            && checkThatDefinitionIsNotInIgnoreList(definition.getKey()))
+                    .map(definition -> {
+                        MarkupDocBuilder definitionBuilder = copyMarkupDocBuilder(markupDocBuilder);
+                        buildDefinition(definitionBuilder, definition.getKey(), definition.getValue());
+                        return definitionBuilder;
+                    })
+                    .collect(Collectors.toList());
+            definitionFragments.forEach(markupDocBuilder::appendFragment);
+        } else {
+            sortedMap.forEach((String definitionName, Model model) -> {
+                if (isNotBlank(definitionName)
+                        && checkThatDefinitionIsNotInIgnoreList(definitionName)) {
+                    buildDefinition(markupDocBuilder, definitionName, model);
+                }
+            });
+        }
     }
 
     /**
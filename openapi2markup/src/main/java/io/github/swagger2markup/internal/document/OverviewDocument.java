@@ -138,7 +138,7 @@ public class OverviewDocument extends MarkupComponent<OverviewDocument.Parameter
 
     void buildDescriptionParagraph(MarkupDocBuilder markupDocBuilder, String description) {
         if (isNotBlank(description)) {
-            markupDocBuilder.paragraph(markupDescription(config.getOpenApiMarkupLanguage(), markupDocBuilder, description));
+            markupDocBuilder.paragraph(markupDescription(context, markupDocBuilder, description));
         }
     }
 
@@ -41,10 +41,15 @@ import org.apache.commons.lang3.text.WordUtils;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.copyMarkupDocBuilder;
 import static io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils.crossReference;
@@ -117,13 +122,17 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
         List<PathOperation> pathOperations = PathUtils.toPathOperationsList(paths, getHostname(), getBasePath(), config.getOperationOrdering());
         if (CollectionUtils.isNotEmpty(pathOperations)) {
             if (config.getPathsGroupedBy() == GroupBy.AS_IS) {
-                pathOperations.forEach(operation -> buildOperation(markupDocBuilder, operation, config));
+                Map<PathOperation, MarkupDocBuilder> operationFragments = renderOperations(markupDocBuilder, pathOperations);
+                buildOperations(markupDocBuilder, pathOperations, operationFragments);
             } else if (config.getPathsGroupedBy() == GroupBy.TAGS) {
                 Validate.notEmpty(context.getOpenApi().getTags(), "Tags must not be empty, when operations are grouped by tags");
                 // Group operations by tag
                 Multimap<String, PathOperation> operationsGroupedByTag = TagUtils.groupOperationsByTag(pathOperations, config.getOperationOrdering());
 
                 Map<String, Tag> tagsMap = TagUtils.toSortedMap(context.getOpenApi().getTags(), config.getTagOrdering());
+                Map<PathOperation, MarkupDocBuilder> operationFragments = renderOperations(markupDocBuilder, tagsMap.keySet().stream()
+                        .flatMap(tagName -> operationsGroupedByTag.get(tagName).stream())
+                        .collect(Collectors.toList()));
 
                 tagsMap.forEach((String tagName, Tag tag) -> {
                     markupDocBuilder.sectionTitleWithAnchorLevel2(WordUtils.capitalize(tagName), tagName + "_resource");
@@ -131,7 +140,7 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
                     if (StringUtils.isNotBlank(description)) {
                         markupDocBuilder.paragraph(description);
                     }
-                    operationsGroupedByTag.get(tagName).forEach(operation -> buildOperation(markupDocBuilder, operation, config));
+                    buildOperations(markupDocBuilder, operationsGroupedByTag.get(tagName), operationFragments);
 
                 });
             } else if (config.getPathsGroupedBy() == GroupBy.REGEX) {
@@ -141,10 +150,11 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
                 Multimap<String, PathOperation> operationsGroupedByRegex = RegexUtils.groupOperationsByRegex(pathOperations, headerPattern);
                 Set<String> keys = operationsGroupedByRegex.keySet();
                 String[] sortedHeaders = RegexUtils.toSortedArray(keys);
+                Map<PathOperation, MarkupDocBuilder> operationFragments = renderOperations(markupDocBuilder, operationsGroupedByRegex.values());
 
                 for (String header : sortedHeaders) {
                     markupDocBuilder.sectionTitleWithAnchorLevel2(WordUtils.capitalize(header), header + "_resource");
-                    operationsGroupedByRegex.get(header).forEach(operation -> buildOperation(markupDocBuilder, operation, config));
+                    buildOperations(markupDocBuilder, operationsGroupedByRegex.get(header), operationFragments);
                 }
             }
         }
@@ -216,6 +226,48 @@ public class PathsDocument extends MarkupComponent<PathsDocument.Parameters> {
         extensionRegistry.getPathsDocumentExtensions().forEach(extension -> extension.apply(context));
     }
 
+    /**
+     * Renders each distinct operation into its own fragment on the fork/join pool, if concurrent operations are enabled.
+     * An operation listed under several groups is rendered only once.
+     * The operations are rendered serially if paths document extensions are registered, as they share the global
+     * context and are not required to be thread-safe.
+     *
+     * @param markupDocBuilder the docbuilder the fragments are copied from
+     * @param operations       the operations to render
+     * @return the rendered fragments by operation, or an empty map if the operations are rendered serially
+     */
+    private Map<PathOperation, MarkupDocBuilder> renderOperations(MarkupDocBuilder markupDocBuilder, Collection<PathOperation> operations) {
+        if (!config.isConcurrentOperationsEnabled() || !extensionRegistry.getPathsDocumentExtensions().isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Set<PathOperation> distinctOperations = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinctOperations.addAll(operations);
+        return distinctOperations.parallelStream()
+                .collect(Collectors.toMap(Function.identity(), operation -> {
+                    MarkupDocBuilder operationBuilder = copyMarkupDocBuilder(markupDocBuilder);
+                    buildOperation(operationBuilder, operation, config);
+                    return operationBuilder;
+                }, (first, second) -> first, IdentityHashMap::new));
+    }
+
+    /**
+     * Builds the given operations in order, using the pre-rendered fragment of an operation when there is one.
+     *
+     * @param markupDocBuilder   the docbuilder do use for output
+     * @param operations         the operations to build
+     * @param operationFragments the pre-rendered fragments by operation
+     */
+    private void buildOperations(MarkupDocBuilder markupDocBuilder, Collection<PathOperation> operations, Map<PathOperation, MarkupDocBuilder> operationFragments) {
+        for (PathOperation operation : operations) {
+            MarkupDocBuilder operationFragment = operationFragments.get(operation);
+            if (operationFragment != null) {
+                markupDocBuilder.appendFragment(operationFragment);
+            } else {
+                buildOperation(markupDocBuilder, operation, config);
+            }
+        }
+    }
+
     /**
      * Builds a path operation depending on generation mode.
      *
@@ -18,6 +18,7 @@ package io.github.swagger2markup.internal.resolver;
 
 import io.github.swagger2markup.OpenApi2MarkupConfig;
 import io.github.swagger2markup.OpenApi2MarkupConverter;
+import io.github.swagger2markup.internal.utils.TypeResolutionCache;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.vavr.Function1;
 
@@ -35,4 +36,13 @@ public abstract class DocumentResolver implements Function1<String, String> {
         this.markupDocBuilder = context.createMarkupDocBuilder();
         this.config = context.getConfig();
     }
+
+    /**
+     * Returns the type resolution cache of the conversion this resolver belongs to.
+     *
+     * @return the type resolution cache
+     */
+    public TypeResolutionCache getTypeResolutionCache() {
+        return context.getTypeResolutionCache();
+    }
 }
\ No newline at end of file
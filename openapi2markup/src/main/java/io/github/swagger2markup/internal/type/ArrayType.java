@@ -25,27 +25,36 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
  */
 public class ArrayType extends Type {
 
-    private String collectionFormat;
-    private Type ofType;
+    private final String collectionFormat;
+    private final Type ofType;
 
     public ArrayType(String name, Type ofType) {
         this(name, ofType, null);
     }
 
     public ArrayType(String name, Type ofType, String collectionFormat) {
-        super(name);
+        this(name, name, nameRefType(ofType), collectionFormat);
+    }
+
+    private ArrayType(String name, String uniqueName, Type ofType, String collectionFormat) {
+        super(name, uniqueName);
         this.collectionFormat = collectionFormat;
         this.ofType = ofType;
-        RefType refType = null;
-        if (this.ofType instanceof RefType) {
-          refType = (RefType) this.ofType;
+    }
+
+    /**
+     * Names an unnamed referenced item type after its definition path.
+     */
+    private static Type nameRefType(Type ofType) {
+        if (ofType instanceof RefType) {
+          RefType refType = (RefType) ofType;
     
-          if (this.ofType.getName() == null && refType.getRefType() != null && refType.getRefType().getUniqueName() != null && refType.getRefType().getUniqueName().indexOf('/') != -1) {
+          if (refType.getName() == null && refType.getRefType() != null && refType.getRefType().getUniqueName() != null && refType.getRefType().getUniqueName().indexOf('/') != -1) {
             String tentative = IOUtils.getNameFromDefinitionPath(refType.getRefType().getUniqueName());
-            this.ofType.setName(tentative);
-            ((RefType) this.ofType).getRefType().setName(tentative);
+            return refType.withName(tentative).withRefType(refType.getRefType().withName(tentative));
           }
         }
+        return ofType;
     }
 
     @Override
@@ -61,15 +70,21 @@ public class ArrayType extends Type {
         return collectionFormat;
     }
 
-    public void setCollectionFormat(String collectionFormat) {
-        this.collectionFormat = collectionFormat;
-    }
-
     public Type getOfType() {
         return ofType;
     }
 
-    public void setOfType(Type ofType) {
-        this.ofType = ofType;
+    @Override
+    public ArrayType withName(String name) {
+        return new ArrayType(name, getUniqueName(), ofType, collectionFormat);
+    }
+
+    @Override
+    public ArrayType withUniqueName(String uniqueName) {
+        return new ArrayType(getName(), uniqueName, ofType, collectionFormat);
+    }
+
+    public ArrayType withOfType(Type ofType) {
+        return new ArrayType(getName(), getUniqueName(), ofType, collectionFormat);
     }
 }
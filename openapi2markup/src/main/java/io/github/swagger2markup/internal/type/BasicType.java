@@ -29,15 +29,19 @@ public class BasicType extends Type {
     /**
      * Basic type
      */
-    protected String type;
-    protected String format;
+    private final String type;
+    private final String format;
 
     public BasicType(String type, String name) {
         this(type, name, null);
     }
 
     public BasicType(String type, String name, String format) {
-        super(name);
+        this(type, name, name, format);
+    }
+
+    private BasicType(String type, String name, String uniqueName, String format) {
+        super(name, uniqueName);
         Validate.notBlank(type, "Type of parameter '%s' must not be blank", name);
         this.type = type;
         this.format = format;
@@ -55,15 +59,17 @@ public class BasicType extends Type {
         return type;
     }
 
-    public void setType(String type) {
-        this.type = type;
-    }
-
     public String getFormat() {
         return format;
     }
 
-    public void setFormat(String format) {
-        this.format = format;
+    @Override
+    public BasicType withName(String name) {
+        return new BasicType(type, name, getUniqueName(), format);
+    }
+
+    @Override
+    public BasicType withUniqueName(String uniqueName) {
+        return new BasicType(type, getName(), uniqueName, format);
     }
 }
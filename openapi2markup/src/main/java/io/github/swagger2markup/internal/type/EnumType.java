@@ -18,6 +18,7 @@ package io.github.swagger2markup.internal.type;
 
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 
+import java.util.Collections;
 import java.util.List;
 
 import static org.apache.commons.lang3.StringUtils.join;
@@ -27,11 +28,15 @@ import static org.apache.commons.lang3.StringUtils.join;
  */
 public class EnumType extends Type {
 
-    protected List<String> values;
+    private final List<String> values;
 
     public EnumType(String name, List<String> values) {
-        super(name);
-        this.values = values;
+        this(name, name, values);
+    }
+
+    private EnumType(String name, String uniqueName, List<String> values) {
+        super(name, uniqueName);
+        this.values = values == null ? null : Collections.unmodifiableList(values);
     }
 
     @Override
@@ -43,7 +48,13 @@ public class EnumType extends Type {
         return values;
     }
 
-    public void setValues(List<String> values) {
-        this.values = values;
+    @Override
+    public EnumType withName(String name) {
+        return new EnumType(name, getUniqueName(), values);
+    }
+
+    @Override
+    public EnumType withUniqueName(String uniqueName) {
+        return new EnumType(getName(), uniqueName, values);
     }
 }
@@ -23,30 +23,45 @@ import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
  */
 public class MapType extends Type {
 
-    private Type keyType = new BasicType("string", null);
-    private Type valueType;
+    private static final Type KEY_TYPE = new BasicType("string", null);
+
+    private final Type valueType;
 
     public MapType(String name, Type valueType) {
-        super(name);
+        this(name, name, valueType);
+    }
+
+    private MapType(String name, String uniqueName, Type valueType) {
+        super(name, uniqueName);
         this.valueType = valueType;
     }
 
     @Override
     public String displaySchema(MarkupDocBuilder docBuilder) {
-        String keyTypeDisplay = keyType.displaySchema(docBuilder);
+        String keyTypeDisplay = KEY_TYPE.displaySchema(docBuilder);
         // Display MapType with null valueType as object to fix https://github.com/swagger-api/swagger-parser/issues/346
         return valueType == null ? "object" : String.format("< %s, %s > map", keyTypeDisplay, valueType.displaySchema(docBuilder));
     }
 
     public Type getKeyType() {
-        return keyType;
+        return KEY_TYPE;
     }
 
     public Type getValueType() {
         return valueType;
     }
 
-    public void setValueType(Type valueType) {
-        this.valueType = valueType;
+    @Override
+    public MapType withName(String name) {
+        return new MapType(name, getUniqueName(), valueType);
+    }
+
+    @Override
+    public MapType withUniqueName(String uniqueName) {
+        return new MapType(getName(), uniqueName, valueType);
+    }
+
+    public MapType withValueType(Type valueType) {
+        return new MapType(getName(), getUniqueName(), valueType);
     }
 }
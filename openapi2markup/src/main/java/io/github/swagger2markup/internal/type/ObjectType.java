@@ -18,6 +18,8 @@ package io.github.swagger2markup.internal.type;
 
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -25,17 +27,21 @@ import java.util.Map;
  */
 public class ObjectType extends Type {
 
-    private Map<String, Schema> properties;
-    private ObjectTypePolymorphism polymorphism;
+    private final Map<String, Schema> properties;
+    private final ObjectTypePolymorphism polymorphism;
 
     public ObjectType(String name, ObjectTypePolymorphism polymorphism, Map<String, Schema> properties) {
-        super(name);
-        this.polymorphism = polymorphism;
-        this.properties = properties;
+        this(name, name, polymorphism, properties);
     }
 
     public ObjectType(String name, Map<String, Schema> properties) {
-        this(name, new ObjectTypePolymorphism(ObjectTypePolymorphism.Nature.NONE, null), properties);
+        this(name, ObjectTypePolymorphism.NONE, properties);
+    }
+
+    private ObjectType(String name, String uniqueName, ObjectTypePolymorphism polymorphism, Map<String, Schema> properties) {
+        super(name, uniqueName);
+        this.polymorphism = polymorphism;
+        this.properties = properties == null ? null : Collections.unmodifiableMap(properties);
     }
 
     @Override
@@ -47,15 +53,24 @@ public class ObjectType extends Type {
         return polymorphism;
     }
 
-    public void setPolymorphism(ObjectTypePolymorphism polymorphism) {
-        this.polymorphism = polymorphism;
-    }
-
+    /**
+     * @return an unmodifiable view of the properties, or null
+     */
     public Map<String, Schema> getProperties() {
         return properties;
     }
 
-    public void setProperties(Map<String, Schema> properties) {
-        this.properties = properties;
+    @Override
+    public ObjectType withName(String name) {
+        return new ObjectType(name, getUniqueName(), polymorphism, properties);
+    }
+
+    @Override
+    public ObjectType withUniqueName(String uniqueName) {
+        return new ObjectType(getName(), uniqueName, polymorphism, properties);
+    }
+
+    public ObjectType withPolymorphism(ObjectTypePolymorphism polymorphism) {
+        return new ObjectType(getName(), getUniqueName(), polymorphism, properties);
     }
 }
@@ -18,8 +18,13 @@ package io.github.swagger2markup.internal.type;
 
 public class ObjectTypePolymorphism {
 
-    public Nature nature = Nature.NONE;
-    public String discriminator;
+    /**
+     * No polymorphism and no discriminator
+     */
+    public static final ObjectTypePolymorphism NONE = new ObjectTypePolymorphism(Nature.NONE, null);
+
+    private final Nature nature;
+    private final String discriminator;
 
     public ObjectTypePolymorphism(Nature nature, String discriminator) {
         this.nature = nature;
@@ -30,16 +35,16 @@ public class ObjectTypePolymorphism {
         return nature;
     }
 
-    public void setNature(Nature nature) {
-        this.nature = nature;
-    }
-
     public String getDiscriminator() {
         return discriminator;
     }
 
-    public void setDiscriminator(String discriminator) {
-        this.discriminator = discriminator;
+    public ObjectTypePolymorphism withNature(Nature nature) {
+        return new ObjectTypePolymorphism(nature, discriminator);
+    }
+
+    public ObjectTypePolymorphism withDiscriminator(String discriminator) {
+        return new ObjectTypePolymorphism(nature, discriminator);
     }
 
     public enum Nature {
@@ -23,19 +23,23 @@ import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
  */
 public class RefType extends Type {
 
-    private String document;
-    private Type refType;
+    private final String document;
+    private final Type refType;
 
     public RefType(String document, Type refType) {
-        super(null);
-        this.document = document;
-        this.refType = refType;
+        this(null, null, document, refType);
     }
 
     public RefType(Type refType) {
         this(null, refType);
     }
 
+    private RefType(String name, String uniqueName, String document, Type refType) {
+        super(name, uniqueName);
+        this.document = document;
+        this.refType = refType;
+    }
+
     @Override
     public String displaySchema(MarkupDocBuilder docBuilder) {
         return docBuilder.copy(false).crossReference(getDocument(), getUniqueName(), refType.getName()).toString();
@@ -45,15 +49,21 @@ public class RefType extends Type {
         return document;
     }
 
-    public void setDocument(String document) {
-        this.document = document;
-    }
-
     public Type getRefType() {
         return refType;
     }
 
-    public void setRefType(Type refType) {
-        this.refType = refType;
+    @Override
+    public RefType withName(String name) {
+        return new RefType(name, getUniqueName(), document, refType);
+    }
+
+    @Override
+    public RefType withUniqueName(String uniqueName) {
+        return new RefType(getName(), uniqueName, document, refType);
+    }
+
+    public RefType withRefType(Type refType) {
+        return new RefType(getName(), getUniqueName(), document, refType);
     }
 }
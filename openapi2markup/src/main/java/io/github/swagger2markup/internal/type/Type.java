@@ -19,12 +19,13 @@ package io.github.swagger2markup.internal.type;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 
 /**
- * Type abstraction for display purpose
+ * Type abstraction for display purpose.
+ * Types are immutable, use the {@code with} methods to derive modified copies.
  */
 public abstract class Type {
 
-    protected String name;
-    private String uniqueName;
+    private final String name;
+    private final String uniqueName;
 
     public Type(String name, String uniqueName) {
         this.name = name;
@@ -39,17 +40,25 @@ public abstract class Type {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
-    }
-
     public String getUniqueName() {
         return uniqueName;
     }
 
-    public void setUniqueName(String uniqueName) {
-        this.uniqueName = uniqueName;
-    }
+    /**
+     * Returns a copy of this type with the given name.
+     *
+     * @param name the name of the copy
+     * @return the copy
+     */
+    public abstract Type withName(String name);
+
+    /**
+     * Returns a copy of this type with the given unique name.
+     *
+     * @param uniqueName the unique name of the copy
+     * @return the copy
+     */
+    public abstract Type withUniqueName(String uniqueName);
 
     public abstract String displaySchema(MarkupDocBuilder docBuilder);
 }
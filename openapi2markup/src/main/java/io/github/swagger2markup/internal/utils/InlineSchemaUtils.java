@@ -25,6 +25,7 @@ import static org.apache.commons.collections4.MapUtils.isNotEmpty;
 public class InlineSchemaUtils {
     /**
      * Returns a RefType to a new inlined type named with {@code name} and {@code uniqueName}.<br>
+     * {@code type} is never modified, types containing an inlined type are returned as copies.<br>
      * The returned RefType point to the new inlined type which is added to the {@code inlineDefinitions} collection.<br>
      * The function is recursive and support collections (ArrayType and MapType).<br>
      * The function is transparent : {@code type} is returned as-is if type is not inlinable or if !config.isInlineSchemaEnabled().<br>
@@ -40,13 +41,11 @@ public class InlineSchemaUtils {
             return createInlineObjectType(type, name, uniqueName, inlineDefinitions);
         } else if (type instanceof ArrayType) {
             ArrayType arrayType = (ArrayType) type;
-            arrayType.setOfType(createInlineType(arrayType.getOfType(), name, uniqueName, inlineDefinitions));
-
-            return arrayType;
+            return arrayType.withOfType(createInlineType(arrayType.getOfType(), name, uniqueName, inlineDefinitions));
         } else if (type instanceof MapType) {
             MapType mapType = (MapType) type;
             if (mapType.getValueType() instanceof ObjectType)
-                mapType.setValueType(createInlineType(mapType.getValueType(), name, uniqueName, inlineDefinitions));
+                return mapType.withValueType(createInlineType(mapType.getValueType(), name, uniqueName, inlineDefinitions));
 
             return mapType;
         } else {
@@ -59,13 +58,10 @@ public class InlineSchemaUtils {
             ObjectType objectType = (ObjectType) type;
             if (isNotEmpty(objectType.getProperties())) {
                 if (objectType.getName() == null) {
-                    objectType.setName(name);
-                    objectType.setUniqueName(uniqueName);
+                    objectType = objectType.withName(name).withUniqueName(uniqueName);
                 }
                 inlineDefinitions.add(objectType);
-                RefType refType = new RefType(objectType);
-                refType.setUniqueName(uniqueName);
-                return refType;
+                return new RefType(objectType).withUniqueName(uniqueName);
             } else
                 return type;
         } else
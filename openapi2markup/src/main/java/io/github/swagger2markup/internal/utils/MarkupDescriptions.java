@@ -0,0 +1,203 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ * Immutable lookup table of the descriptions of an OpenAPI specification, converted to the output markup language.
+ * <p>
+ * The distinct descriptions are collected from the specification and converted in parallel once, before they are rendered.
+ * Descriptions missing from the table, e.g. added by extensions, are converted when they are rendered.
+ */
+public final class MarkupDescriptions {
+
+    private final Map<String, String> descriptions;
+
+    private MarkupDescriptions(Map<String, String> descriptions) {
+        this.descriptions = descriptions;
+    }
+
+    /**
+     * Collects the distinct descriptions of {@code openApi} and converts them in parallel.
+     * Nothing is collected if the descriptions are already written in the output markup language, as importing them
+     * is cheaper than collecting them.
+     *
+     * @param openApi               the OpenAPI specification, if any
+     * @param openApiMarkupLanguage the markup language of the descriptions
+     * @param markupLanguage        the output markup language
+     * @param markupDocBuilder      the builder the descriptions are converted with, which must not be modified meanwhile
+     * @return the converted descriptions
+     */
+    public static MarkupDescriptions of(OpenAPI openApi, MarkupLanguage openApiMarkupLanguage, MarkupLanguage markupLanguage,
+                                        MarkupDocBuilder markupDocBuilder) {
+        if (openApi == null || openApiMarkupLanguage == markupLanguage) {
+            return new MarkupDescriptions(Collections.emptyMap());
+        }
+        Map<String, String> descriptions = collectDescriptions(openApi).parallelStream()
+                .collect(Collectors.toConcurrentMap(Function.identity(),
+                        description -> MarkupDocBuilderUtils.markupDescription(openApiMarkupLanguage, markupDocBuilder, description)));
+        return new MarkupDescriptions(Collections.unmodifiableMap(descriptions));
+    }
+
+    /**
+     * @param description the description as written in the specification
+     * @return the converted description, or null if it has not been converted
+     */
+    public String get(String description) {
+        return descriptions.get(description);
+    }
+
+    /**
+     * @return the number of converted descriptions
+     */
+    public int size() {
+        return descriptions.size();
+    }
+
+    static Set<String> collectDescriptions(OpenAPI openApi) {
+        DescriptionCollector collector = new DescriptionCollector();
+        if (openApi.getInfo() != null)
+            collector.add(openApi.getInfo().getDescription());
+        if (openApi.getPaths() != null) {
+            for (PathItem pathItem : openApi.getPaths().values()) {
+                collector.addParameters(pathItem.getParameters());
+                for (Operation operation : pathItem.readOperations()) {
+                    collector.add(operation.getDescription());
+                    collector.addParameters(operation.getParameters());
+                    collector.addRequestBody(operation.getRequestBody());
+                    if (operation.getResponses() != null)
+                        operation.getResponses().values().forEach(collector::addResponse);
+                }
+            }
+        }
+        Components components = openApi.getComponents();
+        if (components != null) {
+            Map<String, Schema> schemas = components.getSchemas();
+            if (schemas != null)
+                schemas.values().forEach(collector::addSchema);
+            collector.addParameters(components.getParameters() != null ? components.getParameters().values() : null);
+            if (components.getRequestBodies() != null)
+                components.getRequestBodies().values().forEach(collector::addRequestBody);
+            if (components.getResponses() != null)
+                components.getResponses().values().forEach(collector::addResponse);
+            if (components.getHeaders() != null)
+                components.getHeaders().values().forEach(collector::addHeader);
+            if (components.getSecuritySchemes() != null) {
+                for (SecurityScheme securityScheme : components.getSecuritySchemes().values()) {
+                    collector.add(securityScheme.getDescription());
+                }
+            }
+        }
+        return collector.descriptions;
+    }
+
+    private static final class DescriptionCollector {
+        private final Set<String> descriptions = new HashSet<>();
+        private final Set<Schema> visitedSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        void add(String description) {
+            if (isNotBlank(description))
+                descriptions.add(description);
+        }
+
+        void addParameters(Collection<Parameter> parameters) {
+            if (parameters == null)
+                return;
+            for (Parameter parameter : parameters) {
+                add(parameter.getDescription());
+                addSchema(parameter.getSchema());
+                addContent(parameter.getContent());
+            }
+        }
+
+        void addRequestBody(RequestBody requestBody) {
+            if (requestBody == null)
+                return;
+            add(requestBody.getDescription());
+            addContent(requestBody.getContent());
+        }
+
+        void addResponse(ApiResponse response) {
+            add(response.getDescription());
+            if (response.getHeaders() != null)
+                response.getHeaders().values().forEach(this::addHeader);
+            addContent(response.getContent());
+        }
+
+        void addHeader(Header header) {
+            add(header.getDescription());
+            addSchema(header.getSchema());
+        }
+
+        void addContent(Content content) {
+            if (content == null)
+                return;
+            for (MediaType mediaType : content.values()) {
+                addSchema(mediaType.getSchema());
+            }
+        }
+
+        void addSchema(Schema<?> schema) {
+            if (schema == null || !visitedSchemas.add(schema))
+                return;
+            add(schema.getDescription());
+            if (schema.getProperties() != null)
+                schema.getProperties().values().forEach(this::addSchema);
+            if (schema.getAdditionalProperties() instanceof Schema)
+                addSchema((Schema<?>) schema.getAdditionalProperties());
+            if (schema instanceof ArraySchema)
+                addSchema(((ArraySchema) schema).getItems());
+            if (schema instanceof ComposedSchema) {
+                ComposedSchema composedSchema = (ComposedSchema) schema;
+                addSchemas(composedSchema.getAllOf());
+                addSchemas(composedSchema.getAnyOf());
+                addSchemas(composedSchema.getOneOf());
+            }
+        }
+
+        void addSchemas(Collection<Schema> schemas) {
+            if (schemas != null)
+                schemas.forEach(this::addSchema);
+        }
+    }
+}
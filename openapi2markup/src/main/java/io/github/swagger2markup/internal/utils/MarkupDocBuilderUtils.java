@@ -15,6 +15,7 @@
  */
 package io.github.swagger2markup.internal.utils;
 
+import io.github.swagger2markup.OpenApi2MarkupConverter.Context;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import org.apache.commons.lang3.StringUtils;
@@ -31,7 +32,7 @@ public class MarkupDocBuilderUtils {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).literalText(escapeText(text)).toString();
+        return markupDocBuilder.inlineLiteralText(new StringBuilder(), escapeText(text)).toString();
     }
 
     private static String escapeText(String text) {
@@ -45,19 +46,32 @@ public class MarkupDocBuilderUtils {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).boldText(escapeText(text)).toString();
+        return markupDocBuilder.inlineBoldText(new StringBuilder(), escapeText(text)).toString();
     }
 
     public static String italicText(MarkupDocBuilder markupDocBuilder, String text) {
         if (StringUtils.isBlank(text)) {
             return StringUtils.EMPTY;
         }
-        return copyMarkupDocBuilder(markupDocBuilder).italicText(escapeText(text)).toString();
+        return markupDocBuilder.inlineItalicText(new StringBuilder(), escapeText(text)).toString();
     }
 
     public static String crossReference(MarkupDocBuilder markupDocBuilder, String document, String anchor, String text) {
-        return copyMarkupDocBuilder(markupDocBuilder)
-                .crossReference(document, anchor, text).toString();
+        return markupDocBuilder.inlineCrossReference(new StringBuilder(), document, anchor, text).toString();
+    }
+
+    /**
+     * Returns the description converted by the pre-pass of {@code context}, or converts it if the pre-pass did not collect it.
+     */
+    public static String markupDescription(Context context, MarkupDocBuilder markupDocBuilder, String markupText) {
+        if (StringUtils.isBlank(markupText)) {
+            return StringUtils.EMPTY;
+        }
+        String description = context.getMarkupDescriptions().get(markupText);
+        if (description != null) {
+            return description;
+        }
+        return markupDescription(context.getConfig().getOpenApiMarkupLanguage(), markupDocBuilder, markupText);
     }
 
     public static String markupDescription(MarkupLanguage swaggerMarkupLanguage, MarkupDocBuilder markupDocBuilder, String markupText) {
@@ -23,28 +23,33 @@ import io.github.swagger2markup.internal.type.*;
 import io.github.swagger2markup.model.ArrayModel;
 import io.github.swagger2markup.model.ComposedModel;
 import io.github.swagger2markup.model.ModelImpl;
+import io.github.swagger2markup.model.ModelImplView;
 import io.github.swagger2markup.model.RefModel;
 import io.github.swagger2markup.utils.IOUtils;
 import io.github.swagger2markup.model.Model;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
-import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.lang3.Validate;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 public final class ModelUtils {
 
+    public static final String COMPONENT_SCHEMAS_REF_PREFIX = "#/components/schemas/";
+
     /**
      * Recursively resolve referenced type if {@code type} is of type RefType
      *
@@ -78,15 +83,12 @@ public final class ModelUtils {
             else if (modelImpl.getEnum() != null)
                 return new EnumType(modelImpl.getTitle(), modelImpl.getEnum());
             else if (modelImpl.getProperties() != null) {
-                ObjectType objectType = new ObjectType(modelImpl.getTitle(), model.getProperties());
-
                 String toSet = null;
                 if (modelImpl.getDiscriminator() != null) {
                   toSet = modelImpl.getDiscriminator().getPropertyName();
                 }
-                objectType.getPolymorphism().setDiscriminator(toSet);
 
-                return objectType;
+                return new ObjectType(modelImpl.getTitle(), ObjectTypePolymorphism.NONE.withDiscriminator(toSet), model.getProperties());
             } else if (modelImpl.getType() == null)
                 return null;
             else if (isNotBlank(modelImpl.getFormat()))
@@ -96,11 +98,11 @@ public final class ModelUtils {
         } else if (model instanceof ComposedModel) {
             ComposedModel composedModel = (ComposedModel) model;
             Map<String, Schema> allProperties = new LinkedHashMap<>();
-            ObjectTypePolymorphism polymorphism = new ObjectTypePolymorphism(ObjectTypePolymorphism.Nature.NONE, null);
+            ObjectTypePolymorphism polymorphism = ObjectTypePolymorphism.NONE;
             String name = model.getTitle();
 
             if (composedModel.getAllOf() != null) {
-                polymorphism.setNature(ObjectTypePolymorphism.Nature.COMPOSITION);
+                polymorphism = polymorphism.withNature(ObjectTypePolymorphism.Nature.COMPOSITION);
 
                 for (Model innerModel : ModelUtils.convertToModelList(composedModel.getAllOf())) {
                     Type innerModelType = resolveRefType(getType(innerModel, definitions, definitionDocumentResolver));
@@ -113,8 +115,7 @@ public final class ModelUtils {
 
                         String innerModelDiscriminator = ((ObjectType) innerModelType).getPolymorphism().getDiscriminator();
                         if (innerModelDiscriminator != null) {
-                            polymorphism.setNature(ObjectTypePolymorphism.Nature.INHERITANCE);
-                            polymorphism.setDiscriminator(innerModelDiscriminator);
+                            polymorphism = new ObjectTypePolymorphism(ObjectTypePolymorphism.Nature.INHERITANCE, innerModelDiscriminator);
                         }
 
                         Map<String, Schema> innerModelProperties = ((ObjectType) innerModelType).getProperties();
@@ -126,25 +127,8 @@ public final class ModelUtils {
 
             return new ObjectType(name, polymorphism, allProperties);
         } else if (model.get$ref() != null) {
-            String refName = model.get$ref();
-
-            Type refType = new ObjectType(refName, null);
-            Model referredTo = null;
-            String name = null;
-            if (definitions.containsKey(refName)) {
-                referredTo = definitions.get(refName);
-                refType = getType(referredTo, definitions, definitionDocumentResolver);
-                name = referredTo.getTitle();
-                if (name == null) {
-                  name = IOUtils.getNameFromDefinitionPath(refName);
-                }
-            }
-            refType.setName(name);
-            refType.setUniqueName(refName);
-            RefType retRefType = new RefType(definitionDocumentResolver.apply(refName), refType);
-            retRefType.setName(name);
-            retRefType.setUniqueName(refName);
-            return retRefType;
+            return definitionDocumentResolver.getTypeResolutionCache().get(model.get$ref(), definitionDocumentResolver,
+                    () -> getRefType(model, definitions, definitionDocumentResolver));
         } else if (model instanceof ArrayModel) {
             ArrayModel arrayModel = ((ArrayModel) model);
 
@@ -154,6 +138,27 @@ public final class ModelUtils {
         return null;
     }
 
+    /**
+     * Resolves the type of a {@code $ref} model, bypassing the {@link TypeResolutionCache}.
+     */
+    private static Type getRefType(Model model, Map<String, Model> definitions, DocumentResolver definitionDocumentResolver) {
+        String refName = model.get$ref();
+
+        Type refType = new ObjectType(refName, null);
+        Model referredTo = null;
+        String name = null;
+        if (definitions.containsKey(refName)) {
+            referredTo = definitions.get(refName);
+            refType = getType(referredTo, definitions, definitionDocumentResolver);
+            name = referredTo.getTitle();
+            if (name == null) {
+              name = IOUtils.getNameFromDefinitionPath(refName);
+            }
+        }
+        refType = refType.withName(name).withUniqueName(refName);
+        return new RefType(definitionDocumentResolver.apply(refName), refType).withName(name).withUniqueName(refName);
+    }
+
     public static List<Model> convertToModelList(List<Schema> allOf) {
       return Optional.ofNullable(allOf).orElse(new ArrayList<>())
           .stream()
@@ -166,87 +171,197 @@ public final class ModelUtils {
           .collect(Collectors.toMap(e -> e.getKey(), e -> convertToModel(e.getValue())));
     }
 
+    /**
+     * Wraps an object or primitive schema in a read-only model view which delegates its getters to the schema.
+     * Array, composed and {@code $ref} schemas are copied by {@link #convertToModel(Schema)}, their callers tell the
+     * model types apart with {@code instanceof}, which a single view type cannot satisfy.
+     *
+     * @param schema the schema to wrap
+     * @return the model view or model, or null if the schema is null
+     */
+    public static <T> Model<T> viewAsModel(Schema<T> schema) {
+      if (schema == null) {
+        return null;
+      }
+
+      if (schema instanceof ArraySchema || schema instanceof ComposedSchema || schema.get$ref() != null) {
+        return convertToModel(schema);
+      }
+
+      if (("object".equals(schema.getType()) || schema.getType() == null) && schema.getProperties() != null) {
+        return new ModelImplView<>(schema, schema.getName() != null ? schema.getName() : schema.getTitle(), "object");
+      }
+
+      return new ModelImplView<>(schema, schema.getName(), schema.getType());
+    }
+
     public static <T> Model<T> convertToModel(Schema<T> schema) {
       if (schema == null) {
         return null;
       }
 
-      try {
-        if (schema instanceof ArraySchema) {
-          ArraySchema as = (ArraySchema) schema;
-          ArrayModel am = new ArrayModel(as.getType(), as.getFormat());
-          BeanUtils.copyProperties(am, as);
-          if (am.getName() == null) {
-            am.setName(as.getTitle());
-          }
-          return (Model<T>) am;
+      if (schema instanceof ArraySchema) {
+        ArraySchema as = (ArraySchema) schema;
+        ArrayModel am = new ArrayModel(as.getType(), as.getFormat());
+        copySchemaProperties(as, am);
+        am.setItems(as.getItems());
+        if (am.getName() == null) {
+          am.setName(as.getTitle());
         }
+        return (Model<T>) am;
+      }
 
-        if (schema instanceof ComposedSchema) {
-          ComposedSchema coms = (ComposedSchema) schema;
-          ComposedModel cm = new ComposedModel();
-          BeanUtils.copyProperties(cm, coms);
-          if (cm.getName() == null) {
-            cm.setName(coms.getTitle());
-          }
-          return (Model<T>) cm;
+      if (schema instanceof ComposedSchema) {
+        ComposedSchema coms = (ComposedSchema) schema;
+        ComposedModel cm = new ComposedModel();
+        copySchemaProperties(coms, cm);
+        cm.setAllOf(coms.getAllOf());
+        cm.setAnyOf(coms.getAnyOf());
+        cm.setOneOf(coms.getOneOf());
+        if (cm.getName() == null) {
+          cm.setName(coms.getTitle());
         }
+        return (Model<T>) cm;
+      }
 
-        if (schema.get$ref() != null) {
-          RefModel rm = new RefModel();
-          BeanUtils.copyProperties(rm, schema);
-          if (rm.getName() == null) {
-            rm.setName(schema.getTitle());
-          }
-          return (Model<T>) rm;
+      if (schema.get$ref() != null) {
+        RefModel rm = new RefModel();
+        copySchemaProperties(schema, rm);
+        if (rm.getName() == null) {
+          rm.setName(schema.getTitle());
         }
+        return (Model<T>) rm;
+      }
 
-        if (("object".equals(schema.getType()) || schema.getType() == null) && schema.getProperties() != null) {
-          ModelImpl<Object> om = new ModelImpl<>("object", null);
-          BeanUtils.copyProperties(om, schema);
-          om.setType("object");
-          if (om.getName() == null) {
-            om.setName(schema.getTitle());
-          }
-          return (Model<T>) om;
+      if (("object".equals(schema.getType()) || schema.getType() == null) && schema.getProperties() != null) {
+        ModelImpl<Object> om = new ModelImpl<>("object", null);
+        copySchemaProperties(schema, om);
+        om.setType("object");
+        if (om.getName() == null) {
+          om.setName(schema.getTitle());
         }
+        return (Model<T>) om;
+      }
 
-        Model<T> cs = new ModelImpl<>(schema.getType(), schema.getFormat());
-        BeanUtils.copyProperties(cs, schema);
-        return cs;
+      ModelImpl<T> cs = new ModelImpl<>(schema.getType(), schema.getFormat());
+      copySchemaProperties(schema, cs);
+      return cs;
+    }
 
-      } catch (IllegalAccessException | InvocationTargetException e1) {
-        throw new IllegalArgumentException("BeanUtil conversion", e1);
-      } 
+    /**
+     * Copies the properties of a schema into a model without reflection.
+     * The properties are copied in the alphabetical order used by bean introspection, so {@code required}
+     * is still filtered against the already copied {@code properties}.
+     *
+     * @param source the schema to copy from
+     * @param target the model to copy into
+     */
+    @SuppressWarnings("unchecked")
+    private static void copySchemaProperties(Schema source, Schema target) {
+      target.set$ref(source.get$ref());
+      target.setAdditionalProperties(source.getAdditionalProperties());
+      target.setDefault(source.getDefault());
+      target.setDeprecated(source.getDeprecated());
+      target.setDescription(source.getDescription());
+      target.setDiscriminator(source.getDiscriminator());
+      target.setEnum(source.getEnum());
+      target.setExample(source.getExample());
+      target.setExclusiveMaximum(source.getExclusiveMaximum());
+      target.setExclusiveMinimum(source.getExclusiveMinimum());
+      target.setExtensions(source.getExtensions());
+      target.setExternalDocs(source.getExternalDocs());
+      target.setFormat(source.getFormat());
+      target.setMaxItems(source.getMaxItems());
+      target.setMaxLength(source.getMaxLength());
+      target.setMaxProperties(source.getMaxProperties());
+      target.setMaximum(source.getMaximum());
+      target.setMinItems(source.getMinItems());
+      target.setMinLength(source.getMinLength());
+      target.setMinProperties(source.getMinProperties());
+      target.setMinimum(source.getMinimum());
+      target.setMultipleOf(source.getMultipleOf());
+      target.setName(source.getName());
+      target.setNot(source.getNot());
+      target.setNullable(source.getNullable());
+      target.setPattern(source.getPattern());
+      target.setProperties(source.getProperties());
+      target.setReadOnly(source.getReadOnly());
+      target.setRequired(source.getRequired());
+      target.setTitle(source.getTitle());
+      target.setType(source.getType());
+      target.setUniqueItems(source.getUniqueItems());
+      target.setWriteOnly(source.getWriteOnly());
+      target.setXml(source.getXml());
     }
 
     /**
      * Convert the pre-defined schemas into ref keys and models.
+     * Use {@link Context#getComponentModels()} to share the converted models within a conversion.
      * 
-     * @param context
+     * @param openApi the OpenAPI model
+     * @param views true to wrap the schemas in model views, false to copy them into models
      * @return a map of references and models
      */
-    public static Map<String, Model> getComponentModels(Context context) {
-      return convertToModelMap(
-          Optional.ofNullable(context.getOpenApi().getComponents().getSchemas())
+    public static Map<String, Model> toComponentModels(OpenAPI openApi, boolean views) {
+      Map<String, Schema> schemas = Optional.ofNullable(openApi.getComponents().getSchemas())
                 .orElse(new HashMap<>())
             .entrySet().stream()
-            .collect(Collectors.toMap(e -> "#/components/schemas/" + e.getKey(), e -> e.getValue()))
-          );
+            .collect(Collectors.toMap(e -> COMPONENT_SCHEMAS_REF_PREFIX + e.getKey(), e -> e.getValue()));
+      if (views) {
+        return schemas.entrySet().stream()
+            .collect(Collectors.toMap(e -> e.getKey(), e -> viewAsModel(e.getValue())));
+      }
+      return convertToModelMap(schemas);
     }
 
-    public static void distributeRequired(ObjectType modelType, Model model) {
+    /**
+     * Returns the properties of {@code modelType} which {@code model} lists as required, including the properties a
+     * composed model inherits required from its {@code allOf} models.
+     * The property schemas are collected instead of being marked, the parsed model is not modified.
+     *
+     * @param modelType   the type of the model
+     * @param model       the model
+     * @param definitions the component models, to resolve the {@code allOf} references
+     * @return the property schemas to render as required in the properties table of the model, compared by identity
+     */
+    public static Set<Schema> distributeRequired(ObjectType modelType, Model model, Map<String, Model> definitions) {
       Validate.notNull(model);
+      Set<Schema> requiredProperties = Collections.newSetFromMap(new IdentityHashMap<>());
       List<String> requiredFields = model.getRequired();
       if (requiredFields != null) {
         Iterator<Map.Entry<String, Schema>> it = modelType.getProperties().entrySet().iterator();
         while (it.hasNext()) {
             Map.Entry<String, Schema> entry = it.next();
             if (requiredFields.contains(entry.getKey())) {
-              // FIXME - kludge with current OpenAPI implementation
-                Schema s = entry.getValue().required(Collections.EMPTY_LIST);
-                entry.setValue(s);
+                requiredProperties.add(entry.getValue());
+            }
+        }
+      }
+      if (model instanceof ComposedModel) {
+        distributeInheritedRequired((ComposedModel) model, definitions, requiredProperties, new HashSet<>());
+      }
+      return requiredProperties;
+    }
+
+    private static void distributeInheritedRequired(ComposedModel composedModel, Map<String, Model> definitions,
+                                                    Set<Schema> requiredProperties, Set<String> visitedRefs) {
+      for (Model innerModel : convertToModelList(composedModel.getAllOf())) {
+        if (innerModel.get$ref() != null) {
+          if (!visitedRefs.add(innerModel.get$ref()) || !definitions.containsKey(innerModel.get$ref())) {
+            continue;
+          }
+          innerModel = definitions.get(innerModel.get$ref());
+        }
+        if (innerModel.getRequired() != null && innerModel.getProperties() != null) {
+          for (String requiredField : innerModel.getRequired()) {
+            Schema property = innerModel.getProperties().get(requiredField);
+            if (property != null) {
+              requiredProperties.add(property);
             }
+          }
+        }
+        if (innerModel instanceof ComposedModel) {
+          distributeInheritedRequired((ComposedModel) innerModel, definitions, requiredProperties, visitedRefs);
         }
       }
     }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.converter.SwaggerConverter;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of the resolved OpenAPI models of local sources.
+ * <p>
+ * A model is stored as JSON in a file named after the hash of the source content, the source format and the
+ * versions of the parsers and of the model, so that a changed source or upgraded parser never hits a stale entry.
+ * Files referenced by the source through external {@code $ref}s are not part of the key.
+ * The cache can be shared by concurrent conversions, entries are written atomically.
+ */
+public final class ParseCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParseCache.class);
+
+    private static final String CACHE_FORMAT_VERSION = "1";
+    private static final String PARSER_VERSION = Stream.of(OpenAPIV3Parser.class, SwaggerConverter.class, OpenAPI.class, Json.class)
+            .map(ParseCache::version)
+            .collect(Collectors.joining(","));
+
+    private final Path directory;
+
+    /**
+     * @param directory the cache directory, created when the first entry is stored
+     */
+    public ParseCache(Path directory) {
+        Validate.notNull(directory, "directory must not be null");
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the cached model of {@code source}, or parses it and caches the parsed model.
+     * The cache is bypassed if it cannot be read or written.
+     *
+     * @param source the local source
+     * @param format the format of the source, e.g. {@code openapi} or {@code swagger}, which is part of the key
+     * @param parser the parser of the source
+     * @return the OpenAPI model, or null if the source cannot be parsed
+     */
+    public OpenAPI read(Path source, String format, Supplier<OpenAPI> parser) {
+        Path entry;
+        try {
+            entry = directory.resolve(key(source, format) + ".json");
+        } catch (IOException e) {
+            LOG.warn("Failed to hash {}, parsing it without the cache", source, e);
+            return parser.get();
+        }
+        if (Files.isRegularFile(entry)) {
+            try (InputStream inputStream = Files.newInputStream(entry)) {
+                OpenAPI openApi = Json.mapper().readValue(inputStream, OpenAPI.class);
+                LOG.debug("Read the parsed {} from the cache entry {}", source, entry);
+                return openApi;
+            } catch (IOException e) {
+                LOG.warn("Failed to read the cache entry {}, parsing {} again", entry, source, e);
+            }
+        }
+        OpenAPI openApi = parser.get();
+        if (openApi != null) {
+            write(entry, openApi);
+        }
+        return openApi;
+    }
+
+    private void write(Path entry, OpenAPI openApi) {
+        try {
+            Files.createDirectories(directory);
+            Path temporaryEntry = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(temporaryEntry)) {
+                    Json.mapper().writeValue(outputStream, openApi);
+                }
+                Files.move(temporaryEntry, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporaryEntry);
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to write the cache entry {}", entry, e);
+        }
+    }
+
+    private static String key(Path source, String format) throws IOException {
+        String contentHash;
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            contentHash = DigestUtils.sha256Hex(inputStream);
+        }
+        return DigestUtils.sha256Hex(String.join("\n", CACHE_FORMAT_VERSION, PARSER_VERSION, format, contentHash));
+    }
+
+    /**
+     * @return the implementation version of the library of {@code type}, or its location, which usually names the version
+     */
+    private static String version(Class<?> type) {
+        String version = type.getPackage() != null ? type.getPackage().getImplementationVersion() : null;
+        if (version != null) {
+            return version;
+        }
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        return codeSource != null && codeSource.getLocation() != null ? codeSource.getLocation().toString() : "unknown";
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.internal.resolver.DocumentResolver;
+import io.github.swagger2markup.internal.type.Type;
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-conversion cache of the types resolved for {@code $ref} models, keyed by reference and document resolver identity.
+ * <p>
+ * Types are immutable, so cached types are shared between callers and the cache is safe to use from concurrent renderers.
+ */
+public final class TypeResolutionCache {
+
+    private final ConcurrentMap<Key, Type> types = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the type cached for {@code ref} and {@code resolver}, or resolves and caches it.
+     *
+     * @param ref      the reference of the model
+     * @param resolver the definition document resolver the type is resolved with
+     * @param resolve  resolves the type on a cache miss
+     * @return the resolved type
+     */
+    public Type get(String ref, DocumentResolver resolver, Supplier<Type> resolve) {
+        Validate.notNull(ref, "ref must not be null");
+        Key key = new Key(ref, resolver);
+        Type cached = types.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Resolution may recurse into this cache, so it must not run inside a computeIfAbsent
+        Type resolved = resolve.get();
+        if (resolved == null) {
+            return null;
+        }
+        Type previous = types.putIfAbsent(key, resolved);
+        return previous != null ? previous : resolved;
+    }
+
+    /**
+     * @return the number of cached types
+     */
+    public int size() {
+        return types.size();
+    }
+
+    private static final class Key {
+        private final String ref;
+        private final DocumentResolver resolver;
+
+        Key(String ref, DocumentResolver resolver) {
+            this.ref = ref;
+            this.resolver = resolver;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return resolver == other.resolver && ref.equals(other.ref);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(resolver) + ref.hashCode();
+        }
+    }
+}
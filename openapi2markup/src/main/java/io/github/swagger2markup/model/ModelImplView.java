@@ -0,0 +1,607 @@
+package io.github.swagger2markup.model;
+
+import io.swagger.v3.oas.models.ExternalDocumentation;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.XML;
+import org.apache.commons.lang3.Validate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Read-only {@link ModelImpl} view of an object or primitive schema.
+ * Getters delegate to the wrapped schema instead of copying it; only the name, type and required properties are
+ * resolved up front. Mutators throw an {@link UnsupportedOperationException}.
+ */
+public class ModelImplView<T> extends ModelImpl<T> {
+
+  private final Schema<T> schema;
+  private final String name;
+  private final String type;
+  private final List<String> required;
+
+  public ModelImplView(Schema<T> schema, String name, String type) {
+    super(type, null);
+    this.schema = Validate.notNull(schema);
+    this.name = name;
+    this.type = type;
+    this.required = required(schema);
+  }
+
+  /**
+   * Returns the required properties of a schema as a copied model would see them,
+   * i.e. filtered against the schema properties by {@link Schema#setRequired(List)}.
+   *
+   * @param schema the wrapped schema
+   * @return the required properties, or null
+   */
+  private static List<String> required(Schema<?> schema) {
+    Schema<Object> normalized = new Schema<>();
+    normalized.setProperties(schema.getProperties());
+    normalized.setRequired(schema.getRequired());
+    return normalized.getRequired();
+  }
+
+  /**
+   * Returns the wrapped schema.
+   *
+   * @return the wrapped schema
+   */
+  public Schema<T> getSchema() {
+    return schema;
+  }
+
+  @Override
+  public String get$ref() {
+    return schema.get$ref();
+  }
+
+  @Override
+  public Object getAdditionalProperties() {
+    return schema.getAdditionalProperties();
+  }
+
+  @Override
+  public T getDefault() {
+    return schema.getDefault();
+  }
+
+  @Override
+  public Boolean getDeprecated() {
+    return schema.getDeprecated();
+  }
+
+  @Override
+  public String getDescription() {
+    return schema.getDescription();
+  }
+
+  @Override
+  public Discriminator getDiscriminator() {
+    return schema.getDiscriminator();
+  }
+
+  @Override
+  public List<T> getEnum() {
+    return schema.getEnum();
+  }
+
+  @Override
+  public Object getExample() {
+    return schema.getExample();
+  }
+
+  @Override
+  public Boolean getExclusiveMaximum() {
+    return schema.getExclusiveMaximum();
+  }
+
+  @Override
+  public Boolean getExclusiveMinimum() {
+    return schema.getExclusiveMinimum();
+  }
+
+  @Override
+  public Map<String, Object> getExtensions() {
+    return schema.getExtensions();
+  }
+
+  @Override
+  public ExternalDocumentation getExternalDocs() {
+    return schema.getExternalDocs();
+  }
+
+  @Override
+  public String getFormat() {
+    return schema.getFormat();
+  }
+
+  @Override
+  public Integer getMaxItems() {
+    return schema.getMaxItems();
+  }
+
+  @Override
+  public Integer getMaxLength() {
+    return schema.getMaxLength();
+  }
+
+  @Override
+  public Integer getMaxProperties() {
+    return schema.getMaxProperties();
+  }
+
+  @Override
+  public BigDecimal getMaximum() {
+    return schema.getMaximum();
+  }
+
+  @Override
+  public Integer getMinItems() {
+    return schema.getMinItems();
+  }
+
+  @Override
+  public Integer getMinLength() {
+    return schema.getMinLength();
+  }
+
+  @Override
+  public Integer getMinProperties() {
+    return schema.getMinProperties();
+  }
+
+  @Override
+  public BigDecimal getMinimum() {
+    return schema.getMinimum();
+  }
+
+  @Override
+  public BigDecimal getMultipleOf() {
+    return schema.getMultipleOf();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Schema getNot() {
+    return schema.getNot();
+  }
+
+  @Override
+  public Boolean getNullable() {
+    return schema.getNullable();
+  }
+
+  @Override
+  public String getPattern() {
+    return schema.getPattern();
+  }
+
+  @Override
+  public Map<String, Schema> getProperties() {
+    return schema.getProperties();
+  }
+
+  @Override
+  public Boolean getReadOnly() {
+    return schema.getReadOnly();
+  }
+
+  @Override
+  public List<String> getRequired() {
+    return required;
+  }
+
+  @Override
+  public String getTitle() {
+    return schema.getTitle();
+  }
+
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  @Override
+  public Boolean getUniqueItems() {
+    return schema.getUniqueItems();
+  }
+
+  @Override
+  public Boolean getWriteOnly() {
+    return schema.getWriteOnly();
+  }
+
+  @Override
+  public XML getXml() {
+    return schema.getXml();
+  }
+
+  @Override
+  public void set$ref(String ref) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema $ref(String ref) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setAdditionalProperties(Object additionalProperties) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema additionalProperties(Object additionalProperties) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setDefault(Object _default) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema<T> _default(T _default) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setDeprecated(Boolean deprecated) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema deprecated(Boolean deprecated) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setDescription(String description) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema description(String description) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setDiscriminator(Discriminator discriminator) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema discriminator(Discriminator discriminator) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setEnum(List<T> _enum) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema<T> _enum(List<T> _enum) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setExample(Object example) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema example(Object example) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setExclusiveMaximum(Boolean exclusiveMaximum) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema exclusiveMaximum(Boolean exclusiveMaximum) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setExclusiveMinimum(Boolean exclusiveMinimum) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema exclusiveMinimum(Boolean exclusiveMinimum) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setExtensions(Map<String, Object> extensions) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema extensions(Map<String, Object> extensions) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setExternalDocs(ExternalDocumentation externalDocs) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema externalDocs(ExternalDocumentation externalDocs) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setFormat(String format) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema format(String format) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setMaxItems(Integer maxItems) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema maxItems(Integer maxItems) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setMaxLength(Integer maxLength) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema maxLength(Integer maxLength) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setMaxProperties(Integer maxProperties) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema maxProperties(Integer maxProperties) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setMaximum(BigDecimal maximum) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema maximum(BigDecimal maximum) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setMinItems(Integer minItems) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema minItems(Integer minItems) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setMinLength(Integer minLength) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema minLength(Integer minLength) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setMinProperties(Integer minProperties) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema minProperties(Integer minProperties) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setMinimum(BigDecimal minimum) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema minimum(BigDecimal minimum) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setMultipleOf(BigDecimal multipleOf) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema multipleOf(BigDecimal multipleOf) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setName(String name) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema name(String name) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setNot(Schema not) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema not(Schema not) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setNullable(Boolean nullable) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema nullable(Boolean nullable) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setPattern(String pattern) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema pattern(String pattern) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setProperties(Map<String, Schema> properties) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema properties(Map<String, Schema> properties) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setReadOnly(Boolean readOnly) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema readOnly(Boolean readOnly) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setRequired(List<String> required) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema required(List<String> required) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setTitle(String title) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema title(String title) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setType(String type) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema type(String type) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setUniqueItems(Boolean uniqueItems) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema uniqueItems(Boolean uniqueItems) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setWriteOnly(Boolean writeOnly) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema writeOnly(Boolean writeOnly) {
+    throw readOnly();
+  }
+
+  @Override
+  public void setXml(XML xml) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema xml(XML xml) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema addRequiredItem(String requiredItem) {
+    throw readOnly();
+  }
+
+  @Override
+  public Schema addProperties(String key, Schema propertiesItem) {
+    throw readOnly();
+  }
+
+  @Override
+  public void addEnumItemObject(T _enumItem) {
+    throw readOnly();
+  }
+
+  @Override
+  public void addExtension(String name, Object value) {
+    throw readOnly();
+  }
+
+  private static UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException("Model views are read-only");
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ModelImplView<?> other = (ModelImplView<?>) o;
+    return Objects.equals(schema, other.schema) && Objects.equals(name, other.name) && Objects.equals(type, other.type);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(schema, name, type);
+  }
+}
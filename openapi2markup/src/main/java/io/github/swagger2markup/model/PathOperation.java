@@ -18,6 +18,10 @@ package io.github.swagger2markup.model;
 
 import io.swagger.v3.oas.models.PathItem.HttpMethod;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.parameters.Parameter;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -30,7 +34,7 @@ public class PathOperation {
     public PathOperation(HttpMethod method, String path, Operation operation) {
         this.method = method;
         this.path = path;
-        this.operation = operation;
+        this.operation = copyOf(operation);
         // FIXME
         if (this.operation.getRequestBody() != null) {
           this.operation.addParametersItem(
@@ -38,6 +42,29 @@ public class PathOperation {
         }
     }
 
+    /**
+     * Copies an operation with its own parameter list, so that the body parameter added here
+     * and the parameter ordering applied during rendering never modify the parsed OpenAPI model.
+     */
+    private static Operation copyOf(Operation operation) {
+        Operation copy = new Operation();
+        copy.setTags(operation.getTags());
+        copy.setSummary(operation.getSummary());
+        copy.setDescription(operation.getDescription());
+        copy.setExternalDocs(operation.getExternalDocs());
+        copy.setOperationId(operation.getOperationId());
+        List<Parameter> parameters = operation.getParameters();
+        copy.setParameters(parameters == null ? null : new ArrayList<>(parameters));
+        copy.setRequestBody(operation.getRequestBody());
+        copy.setResponses(operation.getResponses());
+        copy.setCallbacks(operation.getCallbacks());
+        copy.setDeprecated(operation.getDeprecated());
+        copy.setSecurity(operation.getSecurity());
+        copy.setServers(operation.getServers());
+        copy.setExtensions(operation.getExtensions());
+        return copy;
+    }
+
     public HttpMethod getMethod() {
         return method;
     }
@@ -74,6 +101,12 @@ public class PathOperation {
         return id;
     }
 
+    /**
+     * Returns a copy of the parsed operation which also lists the request body as a {@link BodyParameter}.
+     * The copy shares everything but its parameter list with the parsed operation.
+     *
+     * @return the operation
+     */
     public Operation getOperation() {
         return operation;
     }
@@ -17,8 +17,11 @@ package io.github.swagger2markup;
 
 import io.github.swagger2markup.assertions.DiffUtils;
 import io.github.swagger2markup.builder.OpenApi2MarkupConfigBuilder;
+import io.github.swagger2markup.builder.OpenApi2MarkupExtensionRegistryBuilder;
 import io.github.swagger2markup.markup.builder.LineSeparator;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.spi.DefinitionsDocumentExtension;
+import io.github.swagger2markup.spi.PathsDocumentExtension;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Assertions;
@@ -35,6 +38,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
@@ -81,6 +86,190 @@ public class AsciidocConverterTest {
         DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testToFolder.html");
     }
 
+    @Test
+    public void testToFolderWithConcurrentDocuments() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/to_folder_concurrent");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //When
+        try {
+            OpenApi2MarkupConfig config = new OpenApi2MarkupConfigBuilder()
+                    .withConcurrentDocuments(executor)
+                    .build();
+            OpenApi2MarkupConverter.fromSwagger(file).withConfig(config).build()
+                    .toFolder(outputDirectory);
+        } finally {
+            executor.shutdown();
+        }
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        assertThat(files).hasSize(4).containsAll(expectedFiles);
+
+        Path expectedFilesDirectory = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/to_folder").toURI());
+        DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testToFolderWithConcurrentDocuments.html");
+    }
+
+    @Test
+    public void testToFolderWithModelViews() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/asciidoc/to_folder_model_views");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        OpenApi2MarkupConfig config = new OpenApi2MarkupConfigBuilder()
+                .withModelViews()
+                .build();
+        OpenApi2MarkupConverter.fromSwagger(file).withConfig(config).build()
+                .toFolder(outputDirectory);
+
+        //Then
+        String[] files = outputDirectory.toFile().list();
+        assertThat(files).hasSize(4).containsAll(expectedFiles);
+
+        Path expectedFilesDirectory = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/to_folder").toURI());
+        DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testToFolderWithModelViews.html");
+    }
+
+    @Test
+    public void testConcurrentOperationsMatchSerialOutput() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path serialOutputDirectory = Paths.get("build/test/asciidoc/operations_serial");
+        Path concurrentOutputDirectory = Paths.get("build/test/asciidoc/operations_concurrent");
+        FileUtils.deleteQuietly(serialOutputDirectory.toFile());
+        FileUtils.deleteQuietly(concurrentOutputDirectory.toFile());
+
+        //When
+        OpenApi2MarkupConfig serialConfig = new OpenApi2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .build();
+        OpenApi2MarkupConverter.fromSwagger(file).withConfig(serialConfig).build()
+                .toFolder(serialOutputDirectory);
+
+        OpenApi2MarkupConfig concurrentConfig = new OpenApi2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .withConcurrentOperations()
+                .build();
+        OpenApi2MarkupConverter.fromSwagger(file).withConfig(concurrentConfig).build()
+                .toFolder(concurrentOutputDirectory);
+
+        //Then
+        String[] files = concurrentOutputDirectory.toFile().list();
+        assertThat(files).hasSize(4).containsAll(expectedFiles);
+        DiffUtils.assertThatAllFilesAreEqual(serialOutputDirectory, concurrentOutputDirectory, "testConcurrentOperationsMatchSerialOutput.html");
+    }
+
+    @Test
+    public void testConcurrentOperationsWithExtensionMatchSerialOutput() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path serialOutputDirectory = Paths.get("build/test/asciidoc/operations_extension_serial");
+        Path concurrentOutputDirectory = Paths.get("build/test/asciidoc/operations_extension_concurrent");
+        FileUtils.deleteQuietly(serialOutputDirectory.toFile());
+        FileUtils.deleteQuietly(concurrentOutputDirectory.toFile());
+
+        //When
+        OpenApi2MarkupConfig serialConfig = new OpenApi2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .build();
+        OpenApi2MarkupConverter.fromSwagger(file).withConfig(serialConfig)
+                .withExtensionRegistry(new OpenApi2MarkupExtensionRegistryBuilder()
+                        .withPathsDocumentExtension(new CountingPathsDocumentExtension()).build())
+                .build()
+                .toFolder(serialOutputDirectory);
+
+        OpenApi2MarkupConfig concurrentConfig = new OpenApi2MarkupConfigBuilder()
+                .withPathsGroupedBy(GroupBy.TAGS)
+                .withConcurrentOperations()
+                .build();
+        CountingPathsDocumentExtension extension = new CountingPathsDocumentExtension();
+        OpenApi2MarkupConverter.fromSwagger(file).withConfig(concurrentConfig)
+                .withExtensionRegistry(new OpenApi2MarkupExtensionRegistryBuilder()
+                        .withPathsDocumentExtension(extension).build())
+                .build()
+                .toFolder(concurrentOutputDirectory);
+
+        //Then
+        assertThat(extension.threads).containsOnly(Thread.currentThread());
+        DiffUtils.assertThatAllFilesAreEqual(serialOutputDirectory, concurrentOutputDirectory, "testConcurrentOperationsWithExtensionMatchSerialOutput.html");
+    }
+
+    @Test
+    public void testConcurrentDefinitionsMatchSerialOutput() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path serialOutputDirectory = Paths.get("build/test/asciidoc/definitions_serial");
+        Path concurrentOutputDirectory = Paths.get("build/test/asciidoc/definitions_concurrent");
+        FileUtils.deleteQuietly(serialOutputDirectory.toFile());
+        FileUtils.deleteQuietly(concurrentOutputDirectory.toFile());
+
+        //When
+        OpenApi2MarkupConfig serialConfig = new OpenApi2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .build();
+        OpenApi2MarkupConverter.fromSwagger(file).withConfig(serialConfig).build()
+                .toFolder(serialOutputDirectory);
+
+        OpenApi2MarkupConfig concurrentConfig = new OpenApi2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withConcurrentDefinitions()
+                .build();
+        OpenApi2MarkupConverter.fromSwagger(file).withConfig(concurrentConfig).build()
+                .toFolder(concurrentOutputDirectory);
+
+        //Then
+        String[] definitions = concurrentOutputDirectory.resolve("definitions").toFile().list();
+        assertThat(definitions).hasSize(5).containsAll(
+                asList("Category.adoc", "Order.adoc", "Pet.adoc", "Tag.adoc", "User.adoc"));
+        DiffUtils.assertThatFileIsEqual(serialOutputDirectory.resolve("definitions.adoc"),
+                concurrentOutputDirectory.resolve("definitions.adoc"), "testConcurrentDefinitionsMatchSerialOutput.html");
+        DiffUtils.assertThatAllFilesAreEqual(serialOutputDirectory.resolve("definitions"),
+                concurrentOutputDirectory.resolve("definitions"), "testConcurrentSeparatedDefinitionsMatchSerialOutput.html");
+    }
+
+    @Test
+    public void testConcurrentDefinitionsWithExtensionMatchSerialOutput() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path serialOutputDirectory = Paths.get("build/test/asciidoc/definitions_extension_serial");
+        Path concurrentOutputDirectory = Paths.get("build/test/asciidoc/definitions_extension_concurrent");
+        FileUtils.deleteQuietly(serialOutputDirectory.toFile());
+        FileUtils.deleteQuietly(concurrentOutputDirectory.toFile());
+
+        //When
+        OpenApi2MarkupConfig serialConfig = new OpenApi2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .build();
+        OpenApi2MarkupConverter.fromSwagger(file).withConfig(serialConfig)
+                .withExtensionRegistry(new OpenApi2MarkupExtensionRegistryBuilder()
+                        .withDefinitionsDocumentExtension(new CountingDefinitionsDocumentExtension()).build())
+                .build()
+                .toFolder(serialOutputDirectory);
+
+        OpenApi2MarkupConfig concurrentConfig = new OpenApi2MarkupConfigBuilder()
+                .withSeparatedDefinitions()
+                .withConcurrentDefinitions()
+                .build();
+        CountingDefinitionsDocumentExtension extension = new CountingDefinitionsDocumentExtension();
+        OpenApi2MarkupConverter.fromSwagger(file).withConfig(concurrentConfig)
+                .withExtensionRegistry(new OpenApi2MarkupExtensionRegistryBuilder()
+                        .withDefinitionsDocumentExtension(extension).build())
+                .build()
+                .toFolder(concurrentOutputDirectory);
+
+        //Then
+        assertThat(extension.threads).isNotEmpty().containsOnly(Thread.currentThread());
+        DiffUtils.assertThatFileIsEqual(serialOutputDirectory.resolve("definitions.adoc"),
+                concurrentOutputDirectory.resolve("definitions.adoc"), "testConcurrentDefinitionsWithExtensionMatchSerialOutput.html");
+        DiffUtils.assertThatAllFilesAreEqual(serialOutputDirectory.resolve("definitions"),
+                concurrentOutputDirectory.resolve("definitions"), "testConcurrentSeparatedDefinitionsWithExtensionMatchSerialOutput.html");
+    }
+
     @Test
     public void testToFileWithoutExtension() throws IOException, URISyntaxException {
         //Given
@@ -97,6 +286,28 @@ public class AsciidocConverterTest {
         DiffUtils.assertThatFileIsEqual(expectedFile, outputFile, "testToFileWithoutExtension.html");
     }
 
+    @Test
+    public void testToFileWithoutExtensionWithStreamingOutput() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(AsciidocConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputFile = Paths.get("build/test/asciidoc/to_file_streaming/swagger.adoc");
+        FileUtils.deleteQuietly(outputFile.toFile());
+
+        //When
+        OpenApi2MarkupConfig config = new OpenApi2MarkupConfigBuilder()
+                .withStreamingOutput()
+                .build();
+        OpenApi2MarkupConverter converter = OpenApi2MarkupConverter.fromSwagger(file)
+                .withConfig(config)
+                .build();
+        converter.toFileWithoutExtension(outputFile);
+
+        //Then
+        Path expectedFile = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/to_file/swagger.adoc").toURI());
+        DiffUtils.assertThatFileIsEqual(expectedFile, outputFile, "testToFileWithoutExtensionWithStreamingOutput.html");
+        assertThat(converter.toString()).isEqualTo(OpenApi2MarkupConverter.fromSwagger(file).build().toString());
+    }
+
     @Test
     // Not working atm. See https://github.com/OpenApi2Markup/swagger2markup/issues/212
     public void testModularizedOpenAPISpec() throws IOException, URISyntaxException {
@@ -922,4 +1133,38 @@ public class AsciidocConverterTest {
         Path expectedFilesDirectory = Paths.get(AsciidocConverterTest.class.getResource("/expected/asciidoc/url_examples").toURI());
         DiffUtils.assertThatAllFilesAreEqual(expectedFilesDirectory, outputDirectory, "testExamplesInUrl.html");
     }
+
+    /**
+     * Numbers the operations in the order it is applied to them, which is not thread-safe.
+     */
+    private static class CountingPathsDocumentExtension extends PathsDocumentExtension {
+
+        private final List<Thread> threads = new ArrayList<>();
+        private int operationCount;
+
+        @Override
+        public void apply(Context context) {
+            if (context.getPosition() == Position.OPERATION_END) {
+                threads.add(Thread.currentThread());
+                context.getMarkupDocBuilder().paragraph("Operation " + ++operationCount);
+            }
+        }
+    }
+
+    /**
+     * Numbers the definitions in the order it is applied to them, which is not thread-safe.
+     */
+    private static class CountingDefinitionsDocumentExtension extends DefinitionsDocumentExtension {
+
+        private final List<Thread> threads = new ArrayList<>();
+        private int definitionCount;
+
+        @Override
+        public void apply(Context context) {
+            if (context.getPosition() == Position.DEFINITION_END) {
+                threads.add(Thread.currentThread());
+                context.getMarkupDocBuilder().paragraph("Definition " + ++definitionCount);
+            }
+        }
+    }
 }
@@ -15,18 +15,33 @@
  */
 package io.github.swagger2markup;
 
+import io.github.swagger2markup.assertions.DiffUtils;
+import io.github.swagger2markup.builder.OpenApi2MarkupConfigBuilder;
+import io.github.swagger2markup.internal.utils.ModelUtils;
+import io.github.swagger2markup.markup.builder.LineSeparator;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.github.swagger2markup.model.Model;
+import io.swagger.v3.core.util.Json;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -116,4 +131,135 @@ public class GeneralConverterTest {
         assertThat(files).hasSize(4).containsAll(expectedFiles);
     }
 
+    @Test
+    public void testComponentSchemasAreConvertedOnce() throws URISyntaxException {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        OpenApi2MarkupConverter.Context parsed = OpenApi2MarkupConverter.fromSwagger(file).build().getContext();
+        AtomicInteger conversions = new AtomicInteger();
+        OpenApi2MarkupConverter.Context context = new OpenApi2MarkupConverter.Context(parsed.getConfig(),
+                parsed.getExtensionRegistry(), parsed.getOpenApi(), parsed.getOpenApiLocation(), openApi -> {
+                    conversions.incrementAndGet();
+                    return ModelUtils.toComponentModels(openApi, parsed.getConfig().isModelViewsEnabled());
+                });
+        OpenApi2MarkupConverter converter = new OpenApi2MarkupConverter(context);
+
+        //When
+        String document = converter.toString();
+        Map<String, Model> componentModels = context.getComponentModels();
+        String secondDocument = converter.toString();
+
+        //Then
+        assertThat(document).isNotEmpty().isEqualTo(secondDocument);
+        assertThat(conversions.get()).isEqualTo(1);
+        assertThat(context.getComponentModels()).isSameAs(componentModels);
+        assertThat(componentModels).containsKeys("#/components/schemas/Pet", "#/components/schemas/User");
+        assertThat(context.getComponentModelsByName().get("Pet")).isSameAs(componentModels.get("#/components/schemas/Pet"));
+    }
+
+    @Test
+    public void testToFolders() throws IOException, URISyntaxException {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Path outputDirectory = Paths.get("build/test/general/to_folders");
+        FileUtils.deleteQuietly(outputDirectory.toFile());
+
+        //When
+        OpenApi2MarkupConfig config = new OpenApi2MarkupConfigBuilder()
+                .withLineSeparator(LineSeparator.UNIX)
+                .build();
+        OpenApi2MarkupConverter.fromSwagger(file)
+                .withConfig(config)
+                .withMarkupLanguages(MarkupLanguage.ASCIIDOC, MarkupLanguage.MARKDOWN)
+                .toFolders(outputDirectory);
+
+        //Then
+        Path expectedAsciidocDirectory = Paths.get(GeneralConverterTest.class.getResource("/expected/asciidoc/to_folder").toURI());
+        DiffUtils.assertThatAllFilesAreEqual(expectedAsciidocDirectory, outputDirectory.resolve("asciidoc"), "testToFoldersAsciidoc.html");
+        Path expectedMarkdownDirectory = Paths.get(GeneralConverterTest.class.getResource("/expected/markdown/to_folder").toURI());
+        DiffUtils.assertThatAllFilesAreEqual(expectedMarkdownDirectory, outputDirectory.resolve("markdown"), "testToFoldersMarkdown.html");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/yaml/swagger_petstore.yaml", "/json/swagger_examples.json"})
+    public void testFromReader(String resource) throws Exception {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource(resource).toURI());
+        String expected = OpenApi2MarkupConverter.fromSwagger(file).build().toString();
+
+        //When
+        String converted;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            converted = OpenApi2MarkupConverter.fromSwagger(reader).build().toString();
+        }
+
+        //Then
+        assertThat(converted).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/yaml/openapi3_petstore.yaml", "/json/openapi3_petstore.json"})
+    public void testFromOpenApiReader(String resource) throws Exception {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource(resource).toURI());
+        String expected = OpenApi2MarkupConverter.from(file).build().toString();
+        String source = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+        //When the source starts with a byte order mark or whitespace
+        List<String> converted = new ArrayList<>();
+        for (String prefix : asList("", "\uFEFF", "\n \t", "\uFEFF\r\n")) {
+            converted.add(OpenApi2MarkupConverter.from(new StringReader(prefix + source)).build().toString());
+        }
+
+        //Then
+        assertThat(converted).hasSize(4).containsOnly(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/yaml/swagger_petstore.yaml", "/yaml/swagger_flatBody.yaml", "/yaml/swagger_inlineSchema.yaml",
+            "/yaml/swagger_examples_inline_response.yaml", "/yaml/swagger_response_headers.yaml", "/json/swagger_polymorphism.json",
+            "/json/swagger_examples.json"})
+    public void testParseCache(String resource) throws Exception {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource(resource).toURI());
+        Path parseCacheDirectory = Paths.get("build/test/parseCache");
+        FileUtils.deleteQuietly(parseCacheDirectory.toFile());
+        String expectedOpenApi = OpenApi2MarkupConverter.from(file).build().toString();
+        String expectedSwagger = OpenApi2MarkupConverter.fromSwagger(file).build().toString();
+
+        //When
+        String parsedOpenApi = OpenApi2MarkupConverter.from(file).withParseCache(parseCacheDirectory).build().toString();
+        String cachedOpenApi = OpenApi2MarkupConverter.from(file).withParseCache(parseCacheDirectory).build().toString();
+        String parsedSwagger = OpenApi2MarkupConverter.fromSwagger(file).withParseCache(parseCacheDirectory).build().toString();
+        String cachedSwagger = OpenApi2MarkupConverter.fromSwagger(file).withParseCache(parseCacheDirectory).build().toString();
+
+        //Then
+        assertThat(parseCacheDirectory.toFile().list()).hasSize(2); // keyed by content and format
+        assertThat(parsedOpenApi).isEqualTo(expectedOpenApi);
+        assertThat(cachedOpenApi).isEqualTo(expectedOpenApi);
+        assertThat(parsedSwagger).isEqualTo(expectedSwagger);
+        assertThat(cachedSwagger).isEqualTo(expectedSwagger);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/yaml/swagger_petstore.yaml", "/yaml/swagger_flatBody.yaml", "/yaml/swagger_inlineSchema.yaml",
+            "/yaml/swagger_examples_inline_response.yaml", "/yaml/swagger_response_headers.yaml", "/json/swagger_polymorphism.json",
+            "/json/swagger_examples.json"})
+    public void testConversionDoesNotModifyOpenApi(String resource) throws Exception {
+        //Given
+        Path file = Paths.get(GeneralConverterTest.class.getResource(resource).toURI());
+        OpenApi2MarkupConfig config = new OpenApi2MarkupConfigBuilder()
+                .withFlatBody()
+                .withGeneratedExamples()
+                .build();
+        OpenApi2MarkupConverter converter = OpenApi2MarkupConverter.fromSwagger(file).withConfig(config).build();
+        String before = Json.mapper().writeValueAsString(converter.getContext().getOpenApi());
+
+        //When
+        converter.toString();
+        converter.toString();
+
+        //Then
+        assertThat(Json.mapper().writeValueAsString(converter.getContext().getOpenApi())).isEqualTo(before);
+    }
 }
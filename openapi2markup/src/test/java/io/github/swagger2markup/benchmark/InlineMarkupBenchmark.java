@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.benchmark;
+
+import io.github.swagger2markup.internal.utils.MarkupDocBuilderUtils;
+import io.github.swagger2markup.markup.builder.LineSeparator;
+import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.markup.builder.MarkupDocBuilders;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the inline formatting of one property table row through a builder copy per cell
+ * with the inline formatters of the builders.
+ * <p>
+ * Run {@link #main(String[])} from the test classpath, or pass {@code -prof gc} to the JMH runner,
+ * to see the allocation rate per row ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InlineMarkupBenchmark {
+
+    @Param({"ASCIIDOC", "MARKDOWN", "CONFLUENCE_MARKUP"})
+    public MarkupLanguage markupLanguage;
+
+    private MarkupDocBuilder markupDocBuilder;
+
+    @Setup
+    public void setUp() {
+        markupDocBuilder = MarkupDocBuilders.documentBuilder(markupLanguage, LineSeparator.UNIX);
+    }
+
+    @Benchmark
+    public void builderCopyPerCell(Blackhole blackhole) {
+        blackhole.consume(markupDocBuilder.copy(false).boldText("category").toString());
+        blackhole.consume(markupDocBuilder.copy(false).italicText("optional").toString());
+        blackhole.consume(markupDocBuilder.copy(false).literalText("integer (int64)").toString());
+        blackhole.consume(markupDocBuilder.copy(false).crossReference(null, "Category", "Category").toString());
+    }
+
+    @Benchmark
+    public void inlineFormatters(Blackhole blackhole) {
+        blackhole.consume(MarkupDocBuilderUtils.boldText(markupDocBuilder, "category"));
+        blackhole.consume(MarkupDocBuilderUtils.italicText(markupDocBuilder, "optional"));
+        blackhole.consume(MarkupDocBuilderUtils.literalText(markupDocBuilder, "integer (int64)"));
+        blackhole.consume(MarkupDocBuilderUtils.crossReference(markupDocBuilder, null, "Category", "Category"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InlineMarkupBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.benchmark;
+
+import io.github.swagger2markup.markup.builder.internal.InlineMarkup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compares the former regex based newline normalization of the markup builders with the single pass one,
+ * over the specifications of the test corpus.
+ * <p>
+ * The samples are every line of every specification, which mostly have no newline, like the texts given
+ * to the builders, and every whole specification, which has many.
+ * Run {@link #main(String[])} from the {@code openapi2markup} directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NewLineNormalizationBenchmark {
+
+    private static final String NEW_LINES = "\\r\\n|\\r|\\n";
+
+    @Param({"src/test/resources"})
+    public String corpus;
+
+    @Param({"\n", "\r\n"})
+    public String newLine;
+
+    private List<String> samples;
+
+    @Setup
+    public void setUp() throws IOException {
+        samples = new ArrayList<>();
+        List<Path> specifications;
+        try (Stream<Path> files = Files.walk(Paths.get(corpus))) {
+            specifications = files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.endsWith(".yaml") || name.endsWith(".yml") || name.endsWith(".json");
+            }).collect(Collectors.toList());
+        }
+        for (Path specification : specifications) {
+            String content = new String(Files.readAllBytes(specification), StandardCharsets.UTF_8);
+            samples.add(content);
+            samples.addAll(content.lines().collect(Collectors.toList()));
+        }
+    }
+
+    @Benchmark
+    public void regexReplaceAll(Blackhole blackhole) {
+        String replacement = Matcher.quoteReplacement(newLine);
+        for (String sample : samples) {
+            blackhole.consume(sample.replaceAll(NEW_LINES, replacement));
+        }
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        for (String sample : samples) {
+            blackhole.consume(InlineMarkup.replaceNewLines(sample, newLine));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NewLineNormalizationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
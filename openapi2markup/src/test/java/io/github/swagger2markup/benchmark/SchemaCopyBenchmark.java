@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.benchmark;
+
+import io.github.swagger2markup.OpenApi2MarkupConverter;
+import io.github.swagger2markup.internal.utils.ModelUtils;
+import io.github.swagger2markup.model.ArrayModel;
+import io.github.swagger2markup.model.ComposedModel;
+import io.github.swagger2markup.model.ModelImpl;
+import io.github.swagger2markup.model.RefModel;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.beanutils.BeanUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the conversion of component schemas to models with the handwritten copier of {@link ModelUtils}
+ * with the former {@link BeanUtils#copyProperties(Object, Object)} based one.
+ * <p>
+ * Run {@link #main(String[])} from the {@code openapi2markup} directory, the allocation rate per
+ * specification is reported as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaCopyBenchmark {
+
+    @Param({"src/test/resources/yaml/swagger_petstore.yaml", "src/test/resources/json/swagger_polymorphism.json",
+            "src/test/resources/json/swagger_validators.json"})
+    public String specification;
+
+    private List<Schema> schemas;
+
+    @Setup
+    public void setUp() {
+        schemas = new ArrayList<>(OpenApi2MarkupConverter.fromSwagger(Paths.get(specification)).build()
+                .getContext().getOpenApi().getComponents().getSchemas().values());
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void handwrittenCopier(Blackhole blackhole) {
+        for (Schema schema : schemas) {
+            blackhole.consume(ModelUtils.convertToModel(schema));
+        }
+    }
+
+    @Benchmark
+    public void beanUtils(Blackhole blackhole) throws Exception {
+        for (Schema schema : schemas) {
+            blackhole.consume(convertWithBeanUtils(schema));
+        }
+    }
+
+    /**
+     * The reflective conversion {@link ModelUtils#convertToModel(Schema)} used to perform.
+     */
+    private static Schema convertWithBeanUtils(Schema schema) throws Exception {
+        Schema model;
+        if (schema instanceof ArraySchema) {
+            model = new ArrayModel(schema.getType(), schema.getFormat());
+            BeanUtils.copyProperties(model, schema);
+        } else if (schema instanceof ComposedSchema) {
+            model = new ComposedModel();
+            BeanUtils.copyProperties(model, schema);
+        } else if (schema.get$ref() != null) {
+            model = new RefModel();
+            BeanUtils.copyProperties(model, schema);
+        } else if (("object".equals(schema.getType()) || schema.getType() == null) && schema.getProperties() != null) {
+            model = new ModelImpl<>("object", null);
+            BeanUtils.copyProperties(model, schema);
+            model.setType("object");
+        } else {
+            model = new ModelImpl<>(schema.getType(), schema.getFormat());
+            BeanUtils.copyProperties(model, schema);
+            return model;
+        }
+        if (model.getName() == null) {
+            model.setName(schema.getTitle());
+        }
+        return model;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SchemaCopyBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -17,6 +17,8 @@ package io.github.swagger2markup.builder;
 
 import com.google.common.collect.Ordering;
 import io.github.swagger2markup.*;
+import io.github.swagger2markup.markup.builder.MarkdownParser;
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
 import io.github.swagger2markup.markup.builder.MarkupLanguage;
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +27,7 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Executor;
 
 import static org.assertj.core.api.BDDAssertions.assertThat;
 
@@ -73,6 +76,12 @@ public class OpenApi2MarkupConfigBuilderTest {
         assertThat(config.isInterDocumentCrossReferencesEnabled()).isFalse();
         assertThat(config.isSeparatedDefinitionsEnabled()).isFalse();
         assertThat(config.isSeparatedOperationsEnabled()).isFalse();
+        assertThat(config.isConcurrentDocumentsEnabled()).isFalse();
+        assertThat(config.getDocumentExecutor()).isNull();
+        assertThat(config.isModelViewsEnabled()).isFalse();
+        assertThat(config.isStreamingOutputEnabled()).isFalse();
+        assertThat(config.getMarkdownParser()).isEqualTo(MarkdownParser.PEGDOWN);
+        assertThat(config.getMarkdownToAsciiDocConverter()).isNotNull();
         assertThat(config.getExtensionsProperties().getKeys()).hasSize(3)
         .containsOnly("uniqueId1.customProperty1",
                 "uniqueId1.customProperty2",
@@ -198,7 +207,25 @@ public class OpenApi2MarkupConfigBuilderTest {
         builder.withListDelimiter();
         assertThat(builder.config.getListDelimiter()).isEqualTo(Character.valueOf(','));
         assertThat(builder.config.isListDelimiterEnabled()).isEqualTo(true);
-        
+
+        Executor documentExecutor = Runnable::run;
+        builder.withConcurrentDocuments(documentExecutor);
+        assertThat(builder.config.isConcurrentDocumentsEnabled()).isTrue();
+        assertThat(builder.config.getDocumentExecutor()).isSameAs(documentExecutor);
+
+        builder.withModelViews();
+        assertThat(builder.config.isModelViewsEnabled()).isTrue();
+
+        builder.withStreamingOutput();
+        assertThat(builder.config.isStreamingOutputEnabled()).isTrue();
+
+        builder.withMarkdownParser(MarkdownParser.COMMONMARK);
+        assertThat(builder.config.getMarkdownParser()).isEqualTo(MarkdownParser.COMMONMARK);
+        assertThat(builder.config.getMarkdownToAsciiDocConverter().convert("*Hello*")).isEqualTo("_Hello_");
+
+        MarkdownToAsciiDocConverter markdownToAsciiDocConverter = markdown -> markdown;
+        builder.withMarkdownToAsciiDocConverter(markdownToAsciiDocConverter);
+        assertThat(builder.config.getMarkdownToAsciiDocConverter()).isSameAs(markdownToAsciiDocConverter);
     }
     
     @Test
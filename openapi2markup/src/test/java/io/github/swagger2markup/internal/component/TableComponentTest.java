@@ -15,10 +15,10 @@
  */
 package io.github.swagger2markup.internal.component;
 
-import ch.netzwerg.paleo.StringColumn;
 import io.github.swagger2markup.OpenApi2MarkupConverter;
 import io.github.swagger2markup.assertions.DiffUtils;
 import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.markup.builder.MarkupTableColumn;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,7 +27,6 @@ import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
-import static ch.netzwerg.paleo.ColumnIds.StringColumnId;
 import static io.github.swagger2markup.helper.ContextUtils.createContext;
 
 public class TableComponentTest extends AbstractComponentTest {
@@ -43,28 +42,42 @@ public class TableComponentTest extends AbstractComponentTest {
 
     @Test
     public void testTable() throws URISyntaxException {
-        StringColumn.Builder typeColumnBuilder = StringColumn.builder(StringColumnId.of("type"));
-        typeColumnBuilder.add("type1").add("type2").add("type3");
-
-        StringColumn.Builder nameColumnBuilder = StringColumn.builder(StringColumnId.of("name"));
-        nameColumnBuilder.add("name1").add("").add("name3");
-
-        StringColumn.Builder descriptionColumnBuilder = StringColumn.builder(StringColumnId.of("description"));
-        descriptionColumnBuilder.add("").add("").add("");
-
         OpenApi2MarkupConverter.Context context = createContext();
         MarkupDocBuilder markupDocBuilder = context.createMarkupDocBuilder();
 
         markupDocBuilder = new TableComponent(context).apply(markupDocBuilder,
                 TableComponent.parameters(
-                        typeColumnBuilder.build(),
-                        nameColumnBuilder.build(),
-                        descriptionColumnBuilder.build()));
+                        new MarkupTableColumn("type"),
+                        new MarkupTableColumn("name"),
+                        new MarkupTableColumn("description"))
+                        .addRow("type1", "name1", "")
+                        .addRow("type2", "", "")
+                        .addRow("type3", "name3", ""));
         markupDocBuilder.writeToFileWithoutExtension(outputDirectory, StandardCharsets.UTF_8);
 
         Path expectedFile = getExpectedFile(COMPONENT_NAME);
         DiffUtils.assertThatFileIsEqual(expectedFile, outputDirectory, getReportName(COMPONENT_NAME));
     }
 
+    @Test
+    public void testStreamedTable() throws URISyntaxException {
+        OpenApi2MarkupConverter.Context context = createContext();
+        MarkupDocBuilder markupDocBuilder = context.createMarkupDocBuilder();
+        Path outputFile = getOutputFile(COMPONENT_NAME + "_streamed");
+
+        markupDocBuilder = new TableComponent(context).beginTable(markupDocBuilder,
+                new MarkupTableColumn[]{
+                        new MarkupTableColumn("type"),
+                        new MarkupTableColumn("name"),
+                        new MarkupTableColumn("description")},
+                new boolean[]{true, true, false})
+                .addRow("type1", "name1", "")
+                .addRow("type2", "", "")
+                .addRow("type3", "name3", "")
+                .end();
+        markupDocBuilder.writeToFileWithoutExtension(outputFile, StandardCharsets.UTF_8);
 
+        Path expectedFile = getExpectedFile(COMPONENT_NAME);
+        DiffUtils.assertThatFileIsEqual(expectedFile, outputFile, getReportName(COMPONENT_NAME + "_streamed"));
+    }
 }
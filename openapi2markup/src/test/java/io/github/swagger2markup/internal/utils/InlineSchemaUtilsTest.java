@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.internal.type.ArrayType;
+import io.github.swagger2markup.internal.type.ObjectType;
+import io.github.swagger2markup.internal.type.RefType;
+import io.github.swagger2markup.internal.type.Type;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InlineSchemaUtilsTest {
+
+    @Test
+    public void testCreateInlineTypeDoesNotModifyType() {
+        //Given
+        Map<String, Schema> properties = Collections.singletonMap("name", new StringSchema());
+        ObjectType objectType = new ObjectType(null, properties);
+        ArrayType arrayType = new ArrayType("pets", objectType);
+        List<ObjectType> inlineDefinitions = new ArrayList<>();
+
+        //When
+        Type inlineType = InlineSchemaUtils.createInlineType(arrayType, "Pet", "op Pet", inlineDefinitions);
+
+        //Then
+        assertThat(arrayType.getOfType()).isSameAs(objectType);
+        assertThat(objectType.getName()).isNull();
+        assertThat(inlineType).isInstanceOf(ArrayType.class).isNotSameAs(arrayType);
+        RefType refType = (RefType) ((ArrayType) inlineType).getOfType();
+        assertThat(refType.getUniqueName()).isEqualTo("op Pet");
+        assertThat(inlineDefinitions).hasSize(1);
+        assertThat(refType.getRefType()).isSameAs(inlineDefinitions.get(0));
+        assertThat(inlineDefinitions.get(0).getName()).isEqualTo("Pet");
+        assertThat(inlineDefinitions.get(0).getUniqueName()).isEqualTo("op Pet");
+        assertThat(inlineDefinitions.get(0).getProperties()).isEqualTo(properties);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.OpenApi2MarkupConfig;
+import io.github.swagger2markup.OpenApi2MarkupConverter;
+import io.github.swagger2markup.builder.OpenApi2MarkupConfigBuilder;
+import io.github.swagger2markup.markup.builder.MarkdownParser;
+import io.github.swagger2markup.markup.builder.MarkdownToAsciiDocConverter;
+import io.github.swagger2markup.markup.builder.MarkupDocBuilder;
+import io.github.swagger2markup.markup.builder.MarkupLanguage;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MarkupDescriptionsTest {
+
+    @Test
+    public void testDescriptionsAreConvertedBeforeRendering() throws Exception {
+        //Given
+        Path file = Paths.get(MarkupDescriptionsTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        OpenApi2MarkupConverter.Context context = OpenApi2MarkupConverter.fromSwagger(file).build().getContext();
+        OpenAPI openApi = context.getOpenApi();
+        MarkupDocBuilder markupDocBuilder = context.createMarkupDocBuilder();
+
+        //When
+        Set<String> descriptions = MarkupDescriptions.collectDescriptions(openApi);
+        MarkupDescriptions markupDescriptions = context.getMarkupDescriptions();
+
+        //Then
+        assertThat(descriptions).contains(openApi.getInfo().getDescription(),
+                openApi.getPaths().get("/pets").getPost().getResponses().get("405").getDescription());
+        assertThat(markupDescriptions.size()).isEqualTo(descriptions.size());
+        for (String description : descriptions) {
+            assertThat(markupDescriptions.get(description))
+                    .isEqualTo(MarkupDocBuilderUtils.markupDescription(context.getConfig().getOpenApiMarkupLanguage(), markupDocBuilder, description));
+        }
+        assertThat(MarkupDocBuilderUtils.markupDescription(context, markupDocBuilder, "Not in the *specification*"))
+                .isEqualTo(MarkupDocBuilderUtils.markupDescription(context.getConfig().getOpenApiMarkupLanguage(), markupDocBuilder, "Not in the *specification*"));
+    }
+
+    @Test
+    public void testDescriptionsAreNotCollectedForTheSameMarkupLanguage() throws Exception {
+        //Given
+        Path file = Paths.get(MarkupDescriptionsTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        OpenApi2MarkupConfig config = new OpenApi2MarkupConfigBuilder()
+                .withMarkupLanguage(MarkupLanguage.MARKDOWN)
+                .build();
+        OpenApi2MarkupConverter.Context context = OpenApi2MarkupConverter.fromSwagger(file).withConfig(config).build().getContext();
+        MarkupDocBuilder markupDocBuilder = context.createMarkupDocBuilder();
+        String description = context.getOpenApi().getInfo().getDescription();
+
+        //When
+        MarkupDescriptions markupDescriptions = context.getMarkupDescriptions();
+
+        //Then
+        assertThat(markupDescriptions.size()).isZero();
+        assertThat(MarkupDocBuilderUtils.markupDescription(context, markupDocBuilder, description))
+                .isEqualTo(MarkupDocBuilderUtils.markupDescription(MarkupLanguage.MARKDOWN, markupDocBuilder, description));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/yaml/swagger_petstore.yaml", "/yaml/swagger_petstore_20160612.yaml", "/yaml/swagger_instagram.yaml",
+            "/yaml/swagger_inlineSchema.yaml", "/yaml/swagger_flatBody.yaml", "/yaml/swagger_response_headers.yaml",
+            "/yaml/swagger_security.yaml", "/yaml/swagger_url_examples.yaml", "/json/swagger_polymorphism.json",
+            "/json/swagger_examples.json", "/json/swagger_enums.json", "/json/swagger_validators.json", "/json/swagger_maps.json"})
+    public void testMarkdownParsersConvertDescriptionsAlike(String resource) throws Exception {
+        //Given
+        Path file = Paths.get(MarkupDescriptionsTest.class.getResource(resource).toURI());
+        OpenApi2MarkupConverter.Context context = OpenApi2MarkupConverter.fromSwagger(file).build().getContext();
+        MarkdownToAsciiDocConverter pegdown = MarkdownParser.PEGDOWN.converter(context.getConfig().getAsciidocPegdownTimeoutMillis());
+        MarkdownToAsciiDocConverter commonMark = MarkdownParser.COMMONMARK.converter(context.getConfig().getAsciidocPegdownTimeoutMillis());
+
+        //When
+        Set<String> descriptions = MarkupDescriptions.collectDescriptions(context.getOpenApi());
+
+        //Then
+        assertThat(descriptions).isNotEmpty();
+        for (String description : descriptions) {
+            assertThat(commonMark.convert(description)).as(description).isEqualTo(pegdown.convert(description));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017 Robert Winkler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.swagger2markup.internal.utils;
+
+import io.github.swagger2markup.OpenApi2MarkupConverter;
+import io.github.swagger2markup.internal.resolver.DefinitionDocumentResolverFromDefinition;
+import io.github.swagger2markup.internal.resolver.DocumentResolver;
+import io.github.swagger2markup.internal.type.ObjectType;
+import io.github.swagger2markup.internal.type.RefType;
+import io.github.swagger2markup.model.ArrayModel;
+import io.github.swagger2markup.model.ComposedModel;
+import io.github.swagger2markup.model.Model;
+import io.github.swagger2markup.model.ModelImpl;
+import io.github.swagger2markup.model.RefModel;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.beanutils.BeanUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ModelUtilsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/yaml/swagger_petstore.yaml", "/json/swagger_polymorphism.json", "/json/swagger_maps.json",
+            "/json/swagger_enums.json", "/json/swagger_validators.json"})
+    public void testConvertToModelMatchesBeanCopy(String resource) throws Exception {
+        //Given
+        Path file = Paths.get(ModelUtilsTest.class.getResource(resource).toURI());
+        Map<String, Schema> schemas = OpenApi2MarkupConverter.fromSwagger(file).build()
+                .getContext().getOpenApi().getComponents().getSchemas();
+
+        for (Schema schema : schemas.values()) {
+            //When
+            Model model = ModelUtils.convertToModel(schema);
+
+            //Then
+            assertThat(model).isEqualTo(convertWithBeanUtils(schema));
+            assertThat(((Schema) model).getName()).isEqualTo(((Schema) convertWithBeanUtils(schema)).getName());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/yaml/swagger_petstore.yaml", "/json/swagger_polymorphism.json", "/json/swagger_maps.json",
+            "/json/swagger_enums.json", "/json/swagger_validators.json"})
+    public void testViewAsModelMatchesConvertToModel(String resource) throws Exception {
+        //Given
+        Path file = Paths.get(ModelUtilsTest.class.getResource(resource).toURI());
+        Map<String, Schema> schemas = OpenApi2MarkupConverter.fromSwagger(file).build()
+                .getContext().getOpenApi().getComponents().getSchemas();
+
+        for (Schema schema : schemas.values()) {
+            //When
+            Schema view = (Schema) ModelUtils.viewAsModel(schema);
+            Schema copy = (Schema) ModelUtils.convertToModel(schema);
+
+            //Then
+            assertThat(view).isInstanceOf(copy.getClass());
+            assertThat(view.getName()).isEqualTo(copy.getName());
+            assertThat(view.getTitle()).isEqualTo(copy.getTitle());
+            assertThat(view.getType()).isEqualTo(copy.getType());
+            assertThat(view.getFormat()).isEqualTo(copy.getFormat());
+            assertThat(view.get$ref()).isEqualTo(copy.get$ref());
+            assertThat(view.getDescription()).isEqualTo(copy.getDescription());
+            assertThat(view.getProperties()).isEqualTo(copy.getProperties());
+            assertThat(view.getRequired()).isEqualTo(copy.getRequired());
+            assertThat(view.getAdditionalProperties()).isEqualTo(copy.getAdditionalProperties());
+            assertThat(view.getEnum()).isEqualTo(copy.getEnum());
+            assertThat(view.getExample()).isEqualTo(copy.getExample());
+            assertThat(view.getDiscriminator()).isEqualTo(copy.getDiscriminator());
+            assertThat(view.getMinimum()).isEqualTo(copy.getMinimum());
+            assertThat(view.getMaximum()).isEqualTo(copy.getMaximum());
+            assertThat(view.getPattern()).isEqualTo(copy.getPattern());
+            if (copy instanceof ArraySchema) {
+                assertThat(((ArraySchema) view).getItems()).isEqualTo(((ArraySchema) copy).getItems());
+            }
+            if (copy instanceof ComposedSchema) {
+                assertThat(((ComposedSchema) view).getAllOf()).isEqualTo(((ComposedSchema) copy).getAllOf());
+            }
+        }
+    }
+
+    @Test
+    public void testModelViewIsReadOnly() throws Exception {
+        //Given
+        Path file = Paths.get(ModelUtilsTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        Schema pet = OpenApi2MarkupConverter.fromSwagger(file).build()
+                .getContext().getOpenApi().getComponents().getSchemas().get("Pet");
+
+        //When
+        Schema view = (Schema) ModelUtils.viewAsModel(pet);
+
+        //Then
+        assertThat(view).isInstanceOf(ModelImpl.class);
+        assertThatThrownBy(() -> view.setTitle("Cat")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.description("A cat")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.addRequiredItem("id")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(view.getRequired()).isSameAs(view.getRequired());
+    }
+
+    @Test
+    public void testRequiredPropertiesAreScopedToTheModel() throws Exception {
+        //Given
+        Path file = Paths.get(ModelUtilsTest.class.getResource("/json/swagger_polymorphism.json").toURI());
+        OpenApi2MarkupConverter.Context context = OpenApi2MarkupConverter.fromSwagger(file).build().getContext();
+        DocumentResolver resolver = new DefinitionDocumentResolverFromDefinition(context);
+        Map<String, Model> definitions = context.getComponentModels();
+        Model cat = definitions.get("#/components/schemas/Cat");
+        Model collection = definitions.get("#/components/schemas/Collection");
+        ObjectType catType = (ObjectType) ModelUtils.getType(cat, definitions, resolver);
+        ObjectType collectionType = (ObjectType) ModelUtils.getType(collection, definitions, resolver);
+
+        //When
+        Set<Schema> catRequired = ModelUtils.distributeRequired(catType, cat, definitions);
+        Set<Schema> collectionRequired = ModelUtils.distributeRequired(collectionType, collection, definitions);
+
+        //Then
+        assertThat(catRequired).contains(catType.getProperties().get("petType"), catType.getProperties().get("huntingSkill"));
+        assertThat(catRequired).doesNotContain(catType.getProperties().get("name"));
+        assertThat(collectionRequired).isEmpty();
+    }
+
+    @Test
+    public void testRefTypesAreCachedPerResolver() throws Exception {
+        //Given
+        Path file = Paths.get(ModelUtilsTest.class.getResource("/yaml/swagger_petstore.yaml").toURI());
+        OpenApi2MarkupConverter.Context context = OpenApi2MarkupConverter.fromSwagger(file).build().getContext();
+        DocumentResolver resolver = new DefinitionDocumentResolverFromDefinition(context);
+        RefModel model = new RefModel();
+        model.set$ref("#/components/schemas/Pet");
+
+        //When
+        RefType first = (RefType) ModelUtils.getType(model, context.getComponentModels(), resolver);
+        RefType renamed = first.withRefType(first.getRefType().withName("Modified"));
+        RefType second = (RefType) ModelUtils.getType(model, context.getComponentModels(), resolver);
+        ModelUtils.getType(model, context.getComponentModels(), new DefinitionDocumentResolverFromDefinition(context));
+
+        //Then
+        assertThat(second).isSameAs(first);
+        assertThat(renamed).isNotSameAs(first);
+        assertThat(renamed.getRefType().getName()).isEqualTo("Modified");
+        assertThat(second.getRefType().getName()).isEqualTo("Pet");
+        assertThat(second.getUniqueName()).isEqualTo("#/components/schemas/Pet");
+        assertThat(((ObjectType) second.getRefType()).getProperties()).containsKeys("id", "name");
+        assertThat(context.getTypeResolutionCache().size()).isEqualTo(2);
+    }
+
+    /**
+     * The reflective conversion {@link ModelUtils#convertToModel(Schema)} used to perform.
+     */
+    private static Model convertWithBeanUtils(Schema schema) throws Exception {
+        if (schema instanceof ArraySchema) {
+            ArrayModel am = new ArrayModel(schema.getType(), schema.getFormat());
+            BeanUtils.copyProperties(am, schema);
+            if (am.getName() == null) {
+                am.setName(schema.getTitle());
+            }
+            return am;
+        }
+        if (schema instanceof ComposedSchema) {
+            ComposedModel cm = new ComposedModel();
+            BeanUtils.copyProperties(cm, schema);
+            if (cm.getName() == null) {
+                cm.setName(schema.getTitle());
+            }
+            return cm;
+        }
+        if (schema.get$ref() != null) {
+            RefModel rm = new RefModel();
+            BeanUtils.copyProperties(rm, schema);
+            if (rm.getName() == null) {
+                rm.setName(schema.getTitle());
+            }
+            return rm;
+        }
+        if (("object".equals(schema.getType()) || schema.getType() == null) && schema.getProperties() != null) {
+            ModelImpl<Object> om = new ModelImpl<>("object", null);
+            BeanUtils.copyProperties(om, schema);
+            om.setType("object");
+            if (om.getName() == null) {
+                om.setName(schema.getTitle());
+            }
+            return om;
+        }
+        ModelImpl<Object> cs = new ModelImpl<>(schema.getType(), schema.getFormat());
+        BeanUtils.copyProperties(cs, schema);
+        return cs;
+    }
+}